@@ -0,0 +1,210 @@
+package io.bareun.base.api.client;
+
+import io.bareun.base.api.request.ApiRequestPolicy;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * 업스트림 호스트 단위의 서킷 브레이커입니다.
+ * <p>
+ * 최근 {@code slidingWindowSize}개 호출의 실패율이 임계값을 넘으면 서킷을 열고 {@code openDuration} 동안 요청을 차단합니다.
+ * 이후 반개방 상태에서 {@code halfOpenCalls}개의 시험 호출을 허용하여, 모두 성공하면 닫고 하나라도 실패하면 다시 엽니다.
+ * 상태 전환은 {@code bareun.api.client.circuit.transitions} 카운터와 {@code bareun.api.client.circuit.state} 게이지로 기록합니다.
+ */
+@Slf4j
+class ApiCircuitBreaker {
+
+    /**
+     * 서킷 상태 (닫힘, 열림, 반개방)
+     */
+    enum State {CLOSED, OPEN, HALF_OPEN}
+
+    /**
+     * 서킷 브레이커 이름 (업스트림 호스트)
+     */
+    private final String name;
+
+    /**
+     * 실패율 임계값과 열림 시간 등을 지정한 요청 정책
+     */
+    private final ApiRequestPolicy policy;
+
+    /**
+     * 최근 호출의 실패 여부를 기록하는 원형 버퍼
+     */
+    private final boolean[] window;
+
+    /**
+     * 다음 호출 결과를 기록할 버퍼 위치
+     */
+    private int index;
+
+    /**
+     * 버퍼에 기록된 호출 수
+     */
+    private int calls;
+
+    /**
+     * 버퍼에 기록된 실패 수
+     */
+    private int failures;
+
+    /**
+     * 현재 서킷 상태
+     */
+    private State state = State.CLOSED;
+
+    /**
+     * 서킷이 열린 시각 (나노초)
+     */
+    private long openedAt;
+
+    /**
+     * 반개방 상태에서 허용한 시험 호출 수
+     */
+    private int halfOpenPermits;
+
+    /**
+     * 반개방 상태에서 성공한 시험 호출 수
+     */
+    private int halfOpenSuccesses;
+
+    /**
+     * 상태 게이지에 기록할 현재 상태의 순서 값
+     */
+    private final AtomicInteger stateGauge = new AtomicInteger();
+
+    /**
+     * 주어진 이름과 정책으로 서킷 브레이커를 생성하고 상태 게이지를 등록합니다.
+     *
+     * @param name   서킷 브레이커 이름
+     * @param policy 요청 정책
+     */
+    ApiCircuitBreaker(String name, ApiRequestPolicy policy) {
+        this.name = name;
+        this.policy = policy;
+        this.window = new boolean[Math.max(1, policy.getSlidingWindowSize())];
+
+        Metrics.gauge("bareun.api.client.circuit.state", Tags.of("name", name), stateGauge);
+    }
+
+    /**
+     * 주어진 {@link Mono}를 서킷 브레이커로 감쌉니다. 서킷이 열려 있으면 구독 시 {@link ApiCircuitBreakerOpenException}을 발생시킵니다.
+     *
+     * @param <T>     응답 타입
+     * @param mono    보호할 Mono
+     * @param failure 실패로 기록할 예외 판별 조건
+     * @return 서킷 브레이커가 적용된 Mono
+     */
+    <T> Mono<T> protect(Mono<T> mono, Predicate<Throwable> failure) {
+        return Mono.defer(() -> {
+            if (!tryAcquire()) return Mono.error(new ApiCircuitBreakerOpenException(name));
+
+            return mono.doOnSuccess(value -> onResult(true))
+                    .doOnError(e -> onResult(!failure.test(e)))
+                    .doOnCancel(this::release);
+        });
+    }
+
+    /**
+     * 현재 서킷 상태를 반환합니다.
+     *
+     * @return 서킷 상태
+     */
+    synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * 호출을 허용할지 확인합니다. 열림 시간이 지났으면 반개방 상태로 전환합니다.
+     *
+     * @return 호출을 허용하면 true
+     */
+    synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < policy.getOpenDuration().toNanos()) return false;
+            transition(State.HALF_OPEN);
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits >= policy.getHalfOpenCalls()) return false;
+            halfOpenPermits++;
+        }
+
+        return true;
+    }
+
+    /**
+     * 허용된 호출의 결과를 기록하고 필요하면 상태를 전환합니다.
+     *
+     * @param success 호출 성공 여부
+     */
+    synchronized void onResult(boolean success) {
+        switch (state) {
+            case HALF_OPEN:
+                if (!success) {
+                    transition(State.OPEN);
+                } else if (++halfOpenSuccesses >= policy.getHalfOpenCalls()) {
+                    transition(State.CLOSED);
+                }
+                break;
+            case CLOSED:
+                record(!success);
+                if (calls >= Math.min(policy.getMinimumCalls(), window.length)
+                        && failures >= policy.getFailureRateThreshold() * calls) {
+                    transition(State.OPEN);
+                }
+                break;
+            default:
+                // 서킷이 열리기 전에 시작된 호출의 결과는 무시합니다.
+        }
+    }
+
+    /**
+     * 결과 없이 취소된 반개방 시험 호출의 허용을 반환합니다.
+     */
+    synchronized void release() {
+        if (state == State.HALF_OPEN && halfOpenPermits > halfOpenSuccesses) halfOpenPermits--;
+    }
+
+    /**
+     * 호출 결과를 원형 버퍼에 기록하고 실패 수를 갱신합니다.
+     *
+     * @param failure 실패 여부
+     */
+    private void record(boolean failure) {
+        if (calls == window.length) {
+            if (window[index]) failures--;
+        } else {
+            calls++;
+        }
+
+        window[index] = failure;
+        if (failure) failures++;
+        index = (index + 1) % window.length;
+    }
+
+    /**
+     * 주어진 상태로 전환하고 기록을 초기화한 뒤 전환을 로그와 메트릭으로 남깁니다.
+     *
+     * @param next 전환할 상태
+     */
+    private void transition(State next) {
+        State previous = state;
+        state = next;
+        stateGauge.set(next.ordinal());
+
+        index = calls = failures = 0;
+        halfOpenPermits = halfOpenSuccesses = 0;
+        if (next == State.OPEN) openedAt = System.nanoTime();
+
+        log.warn("Circuit breaker {} : {} -> {}", name, previous, next);
+        Metrics.counter("bareun.api.client.circuit.transitions",
+                "name", name, "from", previous.name(), "to", next.name()).increment();
+    }
+}
@@ -0,0 +1,25 @@
+package io.bareun.base.api.client;
+
+import lombok.Getter;
+
+/**
+ * 서킷 브레이커가 열려 있어 API 요청을 보내지 않았을 때 발생하는 예외입니다.
+ */
+@Getter
+public class ApiCircuitBreakerOpenException extends IllegalStateException {
+
+    /**
+     * 서킷 브레이커 이름 (업스트림 호스트)
+     */
+    private final String name;
+
+    /**
+     * 주어진 서킷 브레이커 이름으로 예외를 생성합니다.
+     *
+     * @param name 서킷 브레이커 이름
+     */
+    public ApiCircuitBreakerOpenException(String name) {
+        super("Circuit breaker is open: " + name);
+        this.name = name;
+    }
+}
@@ -0,0 +1,89 @@
+package io.bareun.base.api.client;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link WebApiClient} 요청의 응답 시간을 기록하는 필터입니다.
+ * <p>
+ * {@code bareun.api.client.requests} 타이머에 {@code method}, {@code host}, {@code uri}(템플릿, 지정하지 않으면 {@value #NO_URI_TEMPLATE}), {@code status},
+ * {@code outcome}(상태 코드 구분) 태그로 기록하며, 설정에 따라 백분위 히스토그램을 발행합니다.
+ * 응답 시간은 응답 헤더를 받을 때까지의 시간입니다.
+ */
+class ApiClientMetrics implements ExchangeFilterFunction {
+
+    /**
+     * URI 템플릿을 담는 요청 속성 이름
+     */
+    static final String URI_TEMPLATE = ApiClientMetrics.class.getName() + ".uriTemplate";
+
+    /**
+     * URI 템플릿을 지정하지 않은 요청의 {@code uri} 태그 값
+     */
+    static final String NO_URI_TEMPLATE = "none";
+
+    /**
+     * 백분위 히스토그램 발행 여부
+     */
+    private final boolean percentileHistogram;
+
+    ApiClientMetrics(boolean percentileHistogram) {
+        this.percentileHistogram = percentileHistogram;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        long start = System.nanoTime();
+
+        return next.exchange(request)
+                .doOnSuccess(response -> record(request, start,
+                        response != null ? String.valueOf(response.rawStatusCode()) : "UNKNOWN",
+                        response != null ? outcome(response.rawStatusCode()) : "UNKNOWN"))
+                .doOnError(e -> record(request, start, "IO_ERROR", "UNKNOWN"));
+    }
+
+    private void record(ClientRequest request, long start, String status, String outcome) {
+        String uri = request.attribute(URI_TEMPLATE)
+                .map(String::valueOf)
+                .orElse(NO_URI_TEMPLATE);
+
+        Timer.builder("bareun.api.client.requests")
+                .tags(Tags.of(
+                        "method", request.method().name(),
+                        "host", String.valueOf(request.url().getHost()),
+                        "uri", uri,
+                        "status", status,
+                        "outcome", outcome))
+                .publishPercentileHistogram(percentileHistogram)
+                .register(Metrics.globalRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 상태 코드 구분을 반환합니다.
+     */
+    private static String outcome(int status) {
+        switch (status / 100) {
+            case 1:
+                return "INFORMATIONAL";
+            case 2:
+                return "SUCCESS";
+            case 3:
+                return "REDIRECTION";
+            case 4:
+                return "CLIENT_ERROR";
+            case 5:
+                return "SERVER_ERROR";
+            default:
+                return "UNKNOWN";
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.bareun.base.api.client;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 업스트림 호스트 단위의 토큰 버킷 요청 제한기입니다.
+ * <p>
+ * 초당 {@code rate}개의 토큰을 채우고 최대 {@code burst}개까지 모아 둡니다. 토큰이 없으면 다음 토큰이 채워질 때까지
+ * 스레드를 블로킹하지 않고 지연시킵니다.
+ */
+class ApiRateLimiter {
+
+    /**
+     * 토큰 하나가 채워지는 간격 (나노초)
+     */
+    private final double interval;
+
+    /**
+     * 모아 둘 수 있는 최대 토큰 수
+     */
+    private final double burst;
+
+    /**
+     * 현재 모아 둔 토큰 수
+     */
+    private double stored;
+
+    /**
+     * 다음 토큰을 사용할 수 있는 시각 (나노초)
+     */
+    private long nextFree = System.nanoTime();
+
+    ApiRateLimiter(double rate, int burst) {
+        this.interval = 1_000_000_000L / rate;
+        this.burst = Math.max(1, burst);
+        this.stored = this.burst;
+    }
+
+    /**
+     * 구독할 때 토큰 하나를 예약하고, 토큰을 사용할 수 있는 시점에 완료되는 {@link Mono}를 반환합니다.
+     * 대기 중에 취소되면 예약한 토큰을 반환합니다.
+     *
+     * @return 토큰을 얻으면 완료되는 Mono
+     */
+    Mono<Void> acquire() {
+        return Mono.defer(() -> {
+            long wait = reserve();
+            return wait > 0 ? Mono.delay(Duration.ofNanos(wait)).doOnCancel(this::refund).then() : Mono.empty();
+        });
+    }
+
+    /**
+     * 토큰 하나를 예약하고 대기해야 하는 시간을 반환합니다.
+     *
+     * @return 대기 시간 (나노초)
+     */
+    synchronized long reserve() {
+        long now = System.nanoTime();
+        if (now > nextFree) {
+            stored = Math.min(burst, stored + (now - nextFree) / interval);
+            nextFree = now;
+        }
+
+        long wait = nextFree - now;
+        double fromStored = Math.min(1, stored);
+        stored -= fromStored;
+        nextFree += (long) ((1 - fromStored) * interval);
+
+        return wait;
+    }
+
+    /**
+     * 예약한 토큰 하나를 반환합니다. 다음 토큰을 사용할 수 있는 시각을 한 간격만큼 앞당깁니다.
+     */
+    synchronized void refund() {
+        long now = System.nanoTime();
+        long next = nextFree - (long) interval;
+
+        if (next < now) {
+            stored = Math.min(burst, stored + (now - next) / interval);
+            next = now;
+        }
+
+        nextFree = next;
+    }
+}
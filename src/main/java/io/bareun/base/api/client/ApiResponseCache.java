@@ -0,0 +1,180 @@
+package io.bareun.base.api.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.bareun.base.api.request.ApiRequest;
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 멱등 API 요청의 응답 캐시입니다.
+ * <p>
+ * 메서드, URL, 응답 타입, 지정한 헤더를 키로 응답을 보관하며, 크기 초과 시 W-TinyLFU 정책({@link Caffeine})으로 제거합니다.
+ * 만료된 항목에 {@code ETag}가 있으면 {@code staleRetention} 동안 더 보관하여 조건부 요청으로 재검증합니다.
+ * 같은 키로 진행 중인 요청이 있으면 새로 요청하지 않고 그 결과를 함께 받습니다.
+ * <p>
+ * 캐시된 응답 객체는 여러 호출자가 공유하므로 변경하지 않아야 합니다.
+ */
+class ApiResponseCache {
+
+    /**
+     * 요청 키별 캐시 항목
+     */
+    private final Cache<String, Entry> cache;
+
+    /**
+     * 진행 중인 요청 (키별 단일 요청)
+     */
+    private final Map<String, Mono<Entry>> inflight = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시 키에 포함할 요청 헤더
+     */
+    private final List<String> keyHeaders;
+
+    /**
+     * 만료된 ETag 항목을 재검증용으로 더 보관하는 시간 (나노초)
+     */
+    private final long staleRetention;
+
+    ApiResponseCache(WebApiClientProperties.ResponseCache properties) {
+        this.keyHeaders = properties.getKeyHeaders();
+        this.staleRetention = properties.getStaleRetention().toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                        return entry.retention;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                        return entry.retention;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 캐시된 응답을 반환하거나, 없거나 만료되었으면 {@code loader}로 요청합니다.
+     *
+     * @param <T>     응답 타입
+     * @param request API 요청
+     * @param loader  만료된 항목(없으면 {@code null})을 받아 응답을 요청하는 함수
+     * @return 응답 본문을 내보내는 Mono
+     */
+    @SuppressWarnings("unchecked")
+    <T> Mono<T> get(ApiRequest<T> request, Function<Entry, Mono<Entry>> loader) {
+        return Mono.defer(() -> {
+            String key = key(request);
+            Entry cached = cache.getIfPresent(key);
+            if (cached != null && cached.isFresh()) return Mono.justOrEmpty((T) cached.body);
+
+            return inflight.computeIfAbsent(key, k -> loader.apply(cached)
+                            .doOnNext(entry -> {
+                                if (entry.retention > 0) cache.put(k, entry);
+                                else cache.invalidate(k);
+                            })
+                            .doFinally(signal -> inflight.remove(k))
+                            .cache())
+                    .flatMap(entry -> Mono.justOrEmpty((T) entry.body));
+        });
+    }
+
+    /**
+     * 응답으로 캐시 항목을 생성합니다.
+     *
+     * @param body    응답 본문
+     * @param headers 응답 헤더
+     * @param ttl     캐시 유지 시간, 캐시하지 않으면 {@code null}
+     * @return 캐시 항목
+     */
+    Entry entry(Object body, HttpHeaders headers, Duration ttl) {
+        return new Entry(body, ttl != null ? headers.getETag() : null, ttl);
+    }
+
+    /**
+     * 캐시 키를 생성합니다.
+     */
+    private String key(ApiRequest<?> request) {
+        StringBuilder key = new StringBuilder()
+                .append(request.getMethod()).append(' ')
+                .append(request.getUrl()).append(' ')
+                .append(request.getResponseType().getName());
+
+        HttpHeaders headers = request.getHeaders();
+        for (String name : keyHeaders) {
+            List<String> values = headers.get(name);
+            if (values != null) key.append('\n').append(name).append(':').append(values);
+        }
+
+        return key.toString();
+    }
+
+    /**
+     * 캐시 항목입니다.
+     */
+    @Getter
+    final class Entry {
+
+        /**
+         * 응답 본문
+         */
+        private final Object body;
+
+        /**
+         * 응답의 ETag, 없으면 null
+         */
+        private final String etag;
+
+        /**
+         * 생성 시각 (나노초)
+         */
+        private final long createdAt = System.nanoTime();
+
+        /**
+         * 캐시 유지 시간 (나노초)
+         */
+        private final long ttl;
+
+        /**
+         * 캐시에 보관하는 시간 (ETag가 있으면 재검증을 위해 더 보관)
+         */
+        private final long retention;
+
+        private Entry(Object body, String etag, Duration ttl) {
+            this.body = body;
+            this.etag = etag;
+            this.ttl = ttl != null ? ttl.toNanos() : 0;
+            this.retention = ttl == null ? 0 : etag != null ? this.ttl + staleRetention : this.ttl;
+        }
+
+        /**
+         * 304 응답으로 재검증된 항목을 생성합니다.
+         *
+         * @param ttl 새 캐시 유지 시간
+         * @return 같은 본문의 새 항목
+         */
+        Entry revalidate(Duration ttl) {
+            return new Entry(body, etag, ttl);
+        }
+
+        boolean isFresh() {
+            return System.nanoTime() - createdAt < ttl;
+        }
+    }
+}
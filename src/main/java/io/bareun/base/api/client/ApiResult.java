@@ -0,0 +1,48 @@
+package io.bareun.base.api.client;
+
+import io.bareun.base.api.request.ApiRequest;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 일괄 호출({@link WebApiClient#callAll})에서 요청 하나의 결과입니다.
+ * <p>
+ * 요청이 실패해도 다른 요청에 영향을 주지 않도록 응답 본문 또는 예외를 담아 반환합니다.
+ *
+ * @param <T> 응답 본문의 타입
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ApiResult<T> {
+
+    /**
+     * 요청 목록에서의 순번
+     */
+    private final int index;
+
+    /**
+     * 호출한 API 요청
+     */
+    private final ApiRequest<T> request;
+
+    /**
+     * 응답 본문 (실패했거나 본문이 없으면 {@code null})
+     */
+    private final T body;
+
+    /**
+     * 발생한 예외 (성공하면 {@code null})
+     */
+    private final Throwable error;
+
+    /**
+     * 요청이 성공했는지 확인합니다.
+     *
+     * @return 성공하면 {@code true}
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -1,44 +1,181 @@
 package io.bareun.base.api.client;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.bareun.base.api.request.ApiRequest;
+import io.bareun.base.api.request.ApiRequestPolicy;
+import io.bareun.base.api.request.ApiResponseLogging;
+import io.micrometer.core.instrument.Metrics;
+import io.netty.channel.ChannelOption;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.reactive.function.client.WebClient.RequestBodySpec;
 import org.springframework.web.reactive.function.client.WebClient.RequestHeadersSpec;
 import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientRequest;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.ConnectionProvider.ConnectionPoolSpec;
+import reactor.netty.transport.AddressUtils;
+import reactor.util.retry.Retry;
+
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
 
 /**
  * {@link WebClient}를 사용하여 웹 API 호출을 수행하는 클라이언트입니다.
  */
 @Slf4j
 @Component
-public class WebApiClient {
+public class WebApiClient implements DisposableBean {
+
+    /**
+     * 요청별 최대 버퍼 크기에 따라 보관할 WebClient의 최대 개수
+     */
+    private static final int MAX_WEB_CLIENTS = 16;
 
+    /**
+     * 공유 커넥션 풀을 사용하는 기본 WebClient
+     */
     private final WebClient webClient;
 
-    private static final int MAX_MEMORY = 5 * 1024 * 1024;
+    /**
+     * 커넥션 풀, 타임아웃, 프로토콜 설정
+     */
+    private final WebApiClientProperties properties;
+
+    /**
+     * 호스트별 설정을 적용한 커넥션 풀
+     */
+    private final ConnectionProvider connectionProvider;
+
+    /**
+     * 응답을 처리할 스케줄러 (이벤트 루프 밖에서 호출자의 콜백을 실행)
+     */
+    private final Scheduler scheduler;
+
+    /**
+     * 연결 타임아웃을 지정한 업스트림 호스트별 WebClient
+     */
+    private final Map<String, WebClient> hostWebClients = new ConcurrentHashMap<>();
+
+    /**
+     * 호스트와 요청별 최대 버퍼 크기에 따라 코덱 설정을 바꾼 WebClient 캐시 (최대 {@value #MAX_WEB_CLIENTS}개)
+     */
+    private final Cache<List<Object>, WebClient> webClients = Caffeine.newBuilder()
+            .maximumSize(MAX_WEB_CLIENTS)
+            .build();
+
+    /**
+     * 업스트림 호스트별 서킷 브레이커
+     */
+    private final Map<String, ApiCircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    /**
+     * 업스트림 호스트별 요청 제한기 (제한이 없는 호스트는 {@link Optional#empty()})
+     */
+    private final Map<String, Optional<ApiRateLimiter>> rateLimiters = new ConcurrentHashMap<>();
+
+    /**
+     * 요청별 TTL을 지정한 응답 캐시
+     */
+    private final ApiResponseCache responseCache;
+
+    /**
+     * {@link #call(ApiRequest)} 응답 콜백에 적용할 응답 본문 로깅 설정
+     */
+    private final ApiResponseLogging responseLogging;
 
     /**
-     * 지정된 {@link WebClient.Builder}를 사용하여 새로운 {@code WebApiClient}를 생성합니다.
+     * 지정된 {@link WebClient.Builder}와 기본 설정을 사용하여 새로운 {@code WebApiClient}를 생성합니다.
      *
      * @param builder WebClient 인스턴스를 생성하기 위해 사용할 WebClient.Builder
      */
     public WebApiClient(WebClient.Builder builder) {
+        this(builder, new WebApiClientProperties());
+    }
+
+    /**
+     * 지정된 {@link WebClient.Builder}와 {@link WebApiClientProperties}를 사용하여 새로운 {@code WebApiClient}를 생성합니다.
+     *
+     * @param builder    WebClient 인스턴스를 생성하기 위해 사용할 WebClient.Builder
+     * @param properties 커넥션 풀, 타임아웃, 프로토콜 설정
+     */
+    @Autowired
+    public WebApiClient(WebClient.Builder builder, WebApiClientProperties properties) {
         DefaultUriBuilderFactory factory = new DefaultUriBuilderFactory();
         factory.setEncodingMode(DefaultUriBuilderFactory.EncodingMode.VALUES_ONLY);
 
+        this.properties = properties;
+        this.connectionProvider = connectionProvider(properties);
+        this.scheduler = scheduler(properties);
+        this.responseCache = new ApiResponseCache(properties.getCache());
+
+        this.responseLogging = new ApiResponseLogging(
+                properties.isLogResponseBody(), properties.getLogSampleRate(), properties.getLogMaxLength());
+
+        if (properties.isMetrics()) {
+            builder = builder.clone().filter(new ApiClientMetrics(properties.isPercentileHistogram()));
+        }
+
+        HttpClient httpClient = httpClient(connectionProvider, properties);
+
         this.webClient = builder
-                .clientConnector(new ReactorClientHttpConnector(HttpClient.create().compress(true)))
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .uriBuilderFactory(factory)
                 .exchangeStrategies(ExchangeStrategies.builder()
-                        .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(MAX_MEMORY))
+                        .codecs(configurer -> configurer.defaultCodecs()
+                                .maxInMemorySize((int) properties.getMaxInMemorySize().toBytes()))
                         .build())
                 .build();
+
+        for (WebApiClientProperties.Host host : properties.getHosts()) {
+            if (host.getConnectTimeout() == null) continue;
+
+            hostWebClients.put(WebApiClientProperties.normalizeHost(host.getHost()).toLowerCase(), webClient.mutate()
+                    .clientConnector(new ReactorClientHttpConnector(httpClient
+                            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) host.getConnectTimeout().toMillis())))
+                    .build());
+        }
+    }
+
+    /**
+     * 커넥션 풀을 정리합니다.
+     */
+    @Override
+    public void destroy() {
+        scheduler.dispose();
+        connectionProvider.disposeLater().block(Duration.ofSeconds(10));
     }
 
     /**
@@ -54,36 +191,586 @@ public class WebApiClient {
 
     /**
      * 주어진 API 요청을 비동기적으로 호출합니다.
+     * 응답 콜백은 네트워크 I/O 스레드가 아닌 {@link #getScheduler()}에서 실행되며, 기본 응답 본문 로깅에는 이 클라이언트의 설정이 적용됩니다.
      *
      * @param <T> 응답 본문의 타입
      * @param request 호출할 API 요청
      */
     public <T> void call(ApiRequest<T> request) {
-        retrieve(request).subscribe(request::subscribe, request::error);
+        callMono(request).subscribe(response -> responseLogging.run(() -> request.subscribe(response)), request::error);
+    }
+
+    /**
+     * 주어진 API 요청을 호출하는 {@link Mono}를 반환합니다. 구독하기 전까지 요청은 전송되지 않습니다.
+     * <p>
+     * 응답은 {@link #getScheduler()}에서 전달되므로, 이후 연산자에서 블로킹 작업을 수행해도 네트워크 I/O 스레드를 점유하지 않습니다.
+     *
+     * @param <T> 응답 본문의 타입
+     * @param request 호출할 API 요청
+     * @return API 요청의 응답 본문을 내보내는 Mono
+     */
+    public <T> Mono<T> callMono(ApiRequest<T> request) {
+        return retrieve(request).publishOn(scheduler);
+    }
+
+    /**
+     * 주어진 API 요청을 즉시 호출하고 응답을 {@link CompletableFuture}로 반환합니다.
+     * <p>
+     * 호출 스레드를 블로킹하지 않으므로, MVC 컨트롤러에서 여러 API를 동시에 호출한 뒤 결과를 조합할 때 사용합니다.
+     * 후속 콜백은 {@link #getScheduler()}에서 실행됩니다.
+     *
+     * @param <T> 응답 본문의 타입
+     * @param request 호출할 API 요청
+     * @return API 요청의 응답 본문으로 완료되는 CompletableFuture
+     */
+    public <T> CompletableFuture<T> callFuture(ApiRequest<T> request) {
+        return callMono(request).toFuture();
+    }
+
+    /**
+     * 여러 API 요청을 최대 {@code concurrency}개씩 동시에 호출하고, 결과를 요청 순서대로 내보냅니다.
+     * <p>
+     * 요청별 오류는 {@link ApiResult#getError()}에 담기며 다른 요청에 영향을 주지 않습니다.
+     * 호스트별 요청 제한({@code rate-limit})이 설정되어 있으면 그 속도를 넘지 않도록 지연됩니다.
+     *
+     * @param <T> 응답 본문의 타입
+     * @param requests    호출할 API 요청 목록
+     * @param concurrency 최대 동시 호출 수
+     * @return 요청 순서대로 결과를 내보내는 Flux
+     */
+    public <T> Flux<ApiResult<T>> callAll(Collection<? extends ApiRequest<T>> requests, int concurrency) {
+        return Flux.fromIterable(indexed(requests))
+                .flatMapSequential(this::result, concurrency(concurrency));
+    }
+
+    /**
+     * 여러 API 요청을 최대 {@code concurrency}개씩 동시에 호출하고, 완료되는 순서대로 결과를 내보냅니다.
+     * 요청 순번은 {@link ApiResult#getIndex()}로 확인할 수 있습니다.
+     *
+     * @param <T> 응답 본문의 타입
+     * @param requests    호출할 API 요청 목록
+     * @param concurrency 최대 동시 호출 수
+     * @return 완료 순서대로 결과를 내보내는 Flux
+     */
+    public <T> Flux<ApiResult<T>> callAllAsCompleted(Collection<? extends ApiRequest<T>> requests, int concurrency) {
+        return Flux.fromIterable(indexed(requests))
+                .flatMap(this::result, concurrency(concurrency));
+    }
+
+    /**
+     * 여러 API 요청을 최대 {@code concurrency}개씩 동시에 호출하고, 모두 완료되면 요청 순서대로 결과 목록을 반환합니다.
+     *
+     * @param <T> 응답 본문의 타입
+     * @param requests    호출할 API 요청 목록
+     * @param concurrency 최대 동시 호출 수
+     * @return 요청 순서대로 정렬된 결과 목록
+     */
+    public <T> List<ApiResult<T>> callAllReturn(Collection<? extends ApiRequest<T>> requests, int concurrency) {
+        return callAll(requests, concurrency).collectList().block();
+    }
+
+    /**
+     * 주어진 API 요청의 응답을 {@link Flux}로 스트리밍합니다.
+     * <p>
+     * JSON 배열과 NDJSON({@code application/x-ndjson}) 응답을 요소 단위로 디코딩하므로,
+     * 응답 전체를 메모리에 올리지 않고 처리할 수 있습니다. 최대 버퍼 크기는 요소 하나에 적용됩니다.
+     * <p>
+     * 요청 제한, 서킷 브레이커, 재시도, 타임아웃은 응답 헤더를 받을 때까지만 적용됩니다.
+     * 본문을 받는 도중 발생한 오류는 재시도하지 않고 서킷 브레이커에도 기록하지 않습니다.
+     *
+     * @param <T> 응답 요소의 타입
+     * @param request 호출할 API 요청
+     * @return 응답 요소를 내보내는 Flux
+     */
+    public <T> Flux<T> callFlux(ApiRequest<T> request) {
+        return stream(request, request.getResponseType()).publishOn(scheduler);
+    }
+
+    /**
+     * 주어진 API 요청의 응답 본문을 파일로 내려받습니다.
+     * <p>
+     * 응답 버퍼를 변환 없이 파일 채널에 그대로 쓰므로 응답 크기와 관계없이 메모리 사용량이 일정합니다.
+     * 정책은 {@link #callFlux(ApiRequest)}와 같이 응답 헤더를 받을 때까지만 적용됩니다.
+     *
+     * @param request 호출할 API 요청
+     * @param path    저장할 파일 경로 (이미 있으면 덮어씁니다)
+     * @return 저장이 완료되면 종료되는 Mono
+     */
+    public Mono<Void> download(ApiRequest<?> request, Path path) {
+        return DataBufferUtils.write(body(request), path);
+    }
+
+    /**
+     * 주어진 API 요청의 응답 본문을 {@link OutputStream}으로 내려받습니다. 스트림은 닫지 않습니다.
+     * <p>
+     * 블로킹 쓰기는 네트워크 I/O 스레드가 아닌 {@link #getScheduler()}에서 수행됩니다.
+     * 정책은 {@link #callFlux(ApiRequest)}와 같이 응답 헤더를 받을 때까지만 적용됩니다.
+     *
+     * @param request      호출할 API 요청
+     * @param outputStream 응답 본문을 쓸 출력 스트림
+     * @return 쓰기가 완료되면 종료되는 Mono
+     */
+    public Mono<Void> download(ApiRequest<?> request, OutputStream outputStream) {
+        return write(body(request).publishOn(scheduler), outputStream);
+    }
+
+    /**
+     * 응답 버퍼를 {@link OutputStream}에 쓰고, 쓴 버퍼는 바로 해제합니다.
+     *
+     * @param body         응답 본문 버퍼
+     * @param outputStream 응답 본문을 쓸 출력 스트림
+     * @return 쓰기가 완료되면 종료되는 Mono
+     */
+    static Mono<Void> write(Flux<DataBuffer> body, OutputStream outputStream) {
+        return DataBufferUtils.write(body, outputStream)
+                .doOnNext(DataBufferUtils::release)
+                .then();
+    }
+
+    /**
+     * 응답 처리에 사용하는 스케줄러를 반환합니다.
+     * <p>
+     * JDK 21 이상이고 {@code virtual-threads}가 활성화되어 있으면 가상 스레드를, 그렇지 않으면 전용 bounded elastic 스케줄러를 사용합니다.
+     * 블로킹 작업을 이 스케줄러로 넘겨 요청 스레드를 점유하지 않도록 할 수 있습니다.
+     *
+     * @return 응답 처리 스케줄러
+     */
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * 일괄 호출에서 요청 하나를 호출하고 결과로 변환합니다. 오류는 결과에 담아 전파하지 않습니다.
+     *
+     * @param <T> 응답 본문의 타입
+     * @param pending 순번과 요청을 담은 빈 결과
+     * @return 요청 결과를 내보내는 Mono
+     */
+    private <T> Mono<ApiResult<T>> result(ApiResult<T> pending) {
+        ApiRequest<T> request = pending.getRequest();
+
+        return callMono(request)
+                .map(body -> new ApiResult<>(pending.getIndex(), request, body, null))
+                .defaultIfEmpty(pending)
+                .onErrorResume(e -> Mono.just(new ApiResult<>(pending.getIndex(), request, null, e)));
+    }
+
+    /**
+     * 요청 목록을 순번이 지정된 빈 결과 목록으로 변환합니다.
+     */
+    private static <T> List<ApiResult<T>> indexed(Collection<? extends ApiRequest<T>> requests) {
+        List<ApiResult<T>> results = new ArrayList<>(requests.size());
+        for (ApiRequest<T> request : requests) {
+            results.add(new ApiResult<>(results.size(), request, null, null));
+        }
+
+        return results;
+    }
+
+    private static int concurrency(int concurrency) {
+        if (concurrency < 1) throw new IllegalArgumentException("concurrency must be positive: " + concurrency);
+        return concurrency;
     }
 
     /**
      * 주어진 API 요청에 대한 응답을 {@link Mono}로 반환합니다.
+     * 요청은 구독할 때 구성하므로, 잘못된 요청이나 정책은 예외를 던지지 않고 오류 신호로 전달됩니다.
      *
      * @param <T> 응답 본문의 타입
      * @param request 응답을 가져올 API 요청
      * @return API 요청의 응답 본문을 내보내는 Mono
      */
     private <T> Mono<T> retrieve(ApiRequest<T> request) {
-        return requestSpec(request).retrieve().bodyToMono(request.getResponseType());
+        return Mono.defer(() -> {
+            if (isCacheable(request)) {
+                return responseCache.get(request, stale -> policy(request, exchange(request, stale)));
+            }
+
+            return policy(request, requestSpec(request).retrieve().bodyToMono(request.getResponseType()));
+        });
+    }
+
+    /**
+     * 캐시할 API 요청을 호출하고 응답을 캐시 항목으로 반환합니다.
+     * 만료된 항목에 ETag가 있으면 조건부 요청을 보내고, 304 응답이면 기존 본문을 재사용합니다.
+     *
+     * @param request API 요청
+     * @param stale   만료된 캐시 항목, 없으면 {@code null}
+     * @return 캐시 항목을 내보내는 Mono
+     */
+    private Mono<ApiResponseCache.Entry> exchange(ApiRequest<?> request, ApiResponseCache.Entry stale) {
+        RequestHeadersSpec<?> spec = requestSpec(request);
+        if (stale != null && stale.getEtag() != null) spec = spec.header(HttpHeaders.IF_NONE_MATCH, stale.getEtag());
+
+        return spec.exchangeToMono(response -> {
+            HttpHeaders headers = response.headers().asHttpHeaders();
+
+            if (stale != null && response.rawStatusCode() == HttpStatus.NOT_MODIFIED.value()) {
+                return response.releaseBody().thenReturn(stale.revalidate(getCacheTtl(request, headers)));
+            }
+
+            if (response.rawStatusCode() >= 400) {
+                return response.createException().flatMap(Mono::error);
+            }
+
+            return response.bodyToMono(request.getResponseType())
+                    .map(body -> responseCache.entry(body, headers, getCacheTtl(request, headers)))
+                    .switchIfEmpty(Mono.fromSupplier(() -> responseCache.entry(null, headers, getCacheTtl(request, headers))));
+        });
+    }
+
+    /**
+     * 응답 캐시를 적용할 요청인지 확인합니다.
+     *
+     * @param request API 요청
+     * @return 캐시 유지 시간이 지정된 GET, HEAD 요청이면 {@code true}
+     */
+    private static boolean isCacheable(ApiRequest<?> request) {
+        return request.getCacheTtl() != null
+                && (request.getMethod() == HttpMethod.GET || request.getMethod() == HttpMethod.HEAD);
+    }
+
+    /**
+     * 요청의 캐시 유지 시간과 응답의 {@code Cache-Control}로 캐시 유지 시간을 결정합니다.
+     *
+     * @param request API 요청
+     * @param headers 응답 헤더
+     * @return 캐시 유지 시간, 캐시하지 않으면 {@code null}
+     */
+    static Duration getCacheTtl(ApiRequest<?> request, HttpHeaders headers) {
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl == null) return request.getCacheTtl();
+
+        Duration ttl = request.getCacheTtl();
+        for (String directive : cacheControl.split(",")) {
+            directive = directive.trim().toLowerCase();
+
+            if (directive.equals("no-store")) {
+                return null;
+            } else if (directive.equals("no-cache")) {
+                ttl = Duration.ZERO;
+            } else if (directive.startsWith("max-age=")) {
+                try {
+                    Duration maxAge = Duration.ofSeconds(Long.parseLong(directive.substring(8).trim()));
+                    if (maxAge.compareTo(ttl) < 0) ttl = maxAge;
+                } catch (NumberFormatException ignored) {
+                    // 잘못된 max-age는 무시합니다.
+                }
+            }
+        }
+
+        return ttl;
+    }
+
+    /**
+     * 주어진 API 요청의 정책에 따라 요청 제한, 서킷 브레이커, 재시도, 타임아웃을 적용합니다.
+     * <p>
+     * 타임아웃은 시도마다 요청 제한 대기가 끝난 뒤부터 측정하므로, 시간 초과는 서킷 브레이커에 실패로 기록되고 재시도됩니다.
+     * 제한 시간({@code deadline})은 요청 제한 대기와 재시도를 포함한 전체 호출에 적용됩니다.
+     * 서킷 브레이커는 호스트 단위로 공유하므로 요청별 정책이 아닌 호스트별 또는 기본 정책으로 생성합니다.
+     *
+     * @param <R> Mono 요소의 타입
+     * @param request API 요청
+     * @param mono    요청을 보내는 Mono (구독할 때마다 새로 요청합니다)
+     * @return 정책이 적용된 Mono
+     * @throws IllegalArgumentException 요청별 정책에 서킷 브레이커를 지정한 경우
+     */
+    private <R> Mono<R> policy(ApiRequest<?> request, Mono<R> mono) {
+        String host = getHost(request.getUrl());
+        ApiRequestPolicy policy = getPolicy(request, host);
+
+        if (policy.getTimeout() != null) {
+            mono = mono.timeout(policy.getTimeout());
+        }
+
+        ApiRequestPolicy hostPolicy = getHostPolicy(host);
+        if (hostPolicy.isCircuitBreaker() && host != null) {
+            mono = circuitBreakers.computeIfAbsent(host, name -> new ApiCircuitBreaker(name, hostPolicy))
+                    .protect(mono, WebApiClient::isFailure);
+        }
+
+        ApiRateLimiter rateLimiter = host != null ? getRateLimiter(host) : null;
+        if (rateLimiter != null) {
+            mono = rateLimiter.acquire().then(mono);
+        }
+
+        if (policy.isRetryable(request.getMethod())) {
+            String tag = host != null ? host : "unknown";
+            mono = mono.retryWhen(Retry.backoff(policy.getMaxRetries(), policy.getRetryBackoff())
+                    .maxBackoff(policy.getMaxRetryBackoff())
+                    .jitter(policy.getRetryJitter())
+                    .filter(WebApiClient::isFailure)
+                    .doBeforeRetry(signal -> Metrics.counter("bareun.api.client.retries", "host", tag).increment())
+                    .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+        }
+
+        return policy.getDeadline() != null ? mono.timeout(policy.getDeadline()) : mono;
+    }
+
+    /**
+     * 요청, 호스트, 기본 정책 순서로 적용할 정책을 찾습니다.
+     *
+     * @param request API 요청
+     * @param host    요청 호스트
+     * @return 적용할 정책
+     * @throws IllegalArgumentException 요청별 정책에 서킷 브레이커를 지정한 경우
+     */
+    private ApiRequestPolicy getPolicy(ApiRequest<?> request, String host) {
+        ApiRequestPolicy policy = request.getPolicy();
+        if (policy == null) return getHostPolicy(host);
+
+        if (policy.isCircuitBreaker()) {
+            throw new IllegalArgumentException("Circuit breaker must be configured per host, not per request: " + request.getUrl());
+        }
+
+        return policy;
+    }
+
+    /**
+     * 호스트, 기본 정책 순서로 적용할 정책을 찾습니다.
+     *
+     * @param host 요청 호스트
+     * @return 적용할 정책
+     */
+    private ApiRequestPolicy getHostPolicy(String host) {
+        WebApiClientProperties.Host hostProperties = properties.getHost(host);
+        if (hostProperties != null && hostProperties.getPolicy() != null) return hostProperties.getPolicy();
+
+        return properties.getPolicy();
+    }
+
+    /**
+     * 주어진 호스트의 요청 제한기를 반환합니다.
+     *
+     * @param host 요청 호스트
+     * @return 요청 제한기, 제한이 없으면 {@code null}
+     */
+    private ApiRateLimiter getRateLimiter(String host) {
+        return rateLimiters.computeIfAbsent(host, name -> {
+            WebApiClientProperties.Host hostProperties = properties.getHost(name);
+
+            double rate = hostProperties != null && hostProperties.getRateLimit() != null
+                    ? hostProperties.getRateLimit() : properties.getRateLimit();
+            int burst = hostProperties != null && hostProperties.getRateLimitBurst() != null
+                    ? hostProperties.getRateLimitBurst() : properties.getRateLimitBurst();
+
+            return rate > 0 ? Optional.of(new ApiRateLimiter(rate, burst > 0 ? burst : (int) Math.ceil(rate)))
+                    : Optional.empty();
+        }).orElse(null);
+    }
+
+    /**
+     * 재시도하거나 서킷 브레이커에 실패로 기록할 예외인지 확인합니다.
+     * 연결 오류, 타임아웃, 5xx 및 429 응답이 해당하며, 그 외 4xx 응답은 업스트림 장애로 보지 않습니다.
+     *
+     * @param e 발생한 예외
+     * @return 실패로 처리할 예외이면 {@code true}
+     */
+    static boolean isFailure(Throwable e) {
+        if (e instanceof WebClientResponseException) {
+            int status = ((WebClientResponseException) e).getRawStatusCode();
+            return status >= 500 || status == 429;
+        }
+
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
+    }
+
+    /**
+     * 주어진 API 요청의 응답 본문을 디코딩하지 않고 {@link DataBuffer} 단위로 반환합니다.
+     *
+     * @param request 호출할 API 요청
+     * @return 응답 본문 버퍼를 내보내는 Flux
+     */
+    private Flux<DataBuffer> body(ApiRequest<?> request) {
+        return stream(request, DataBuffer.class);
+    }
+
+    /**
+     * 주어진 API 요청의 응답 본문을 {@link Flux}로 반환합니다.
+     * 정책은 응답 헤더를 받는 {@link Mono}에 적용하므로, 재시도로 이미 내보낸 요소가 중복되지 않습니다.
+     * 요청은 구독할 때 구성합니다.
+     *
+     * @param <R> 응답 요소의 타입
+     * @param request 호출할 API 요청
+     * @param type    응답 요소의 타입
+     * @return 응답 요소를 내보내는 Flux
+     */
+    private <R> Flux<R> stream(ApiRequest<?> request, Class<R> type) {
+        return Flux.defer(() -> policy(request, requestSpec(request).retrieve().toEntityFlux(type))
+                .flatMapMany(ResponseEntity::getBody));
+    }
+
+    /**
+     * 주어진 API 요청의 호스트와 최대 버퍼 크기에 맞는 {@link WebClient}를 반환합니다.
+     * 연결 타임아웃을 지정한 호스트는 커넥션 풀을 공유하고 연결 옵션만 다른 WebClient를 사용합니다.
+     * 버퍼 크기별 WebClient는 최근에 사용한 것부터 제한된 개수만 보관합니다.
+     *
+     * @param request API 요청
+     * @return 요청에 사용할 WebClient
+     */
+    private WebClient webClient(ApiRequest<?> request) {
+        String host = getHost(request.getUrl());
+        WebClient client = host != null ? hostWebClients.getOrDefault(host.toLowerCase(), webClient) : webClient;
+
+        int maxInMemorySize = request.getMaxInMemorySize();
+        if (maxInMemorySize < 0) return client;
+
+        return webClients.get(Arrays.asList(client == webClient ? null : host.toLowerCase(), maxInMemorySize),
+                key -> client.mutate()
+                        .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(maxInMemorySize))
+                        .build());
     }
 
     /**
      * 주어진 API 요청에 대한 {@link RequestHeadersSpec}를 생성합니다.
+     * 호스트별 응답 타임아웃이 설정되어 있으면 요청에 적용합니다.
      *
      * @param request 스펙을 생성할 API 요청
      * @return 주어진 API 요청에 대한 RequestHeadersSpec
      */
     private RequestHeadersSpec<?> requestSpec(ApiRequest<?> request) {
-        RequestBodySpec spec = webClient.method(request.getMethod())
+        RequestBodySpec spec = webClient(request).method(request.getMethod())
                 .uri(request.getUrl())
                 .headers(h -> h.addAll(request.getHeaders()));
 
+        if (request.getUriTemplate() != null) spec.attribute(ApiClientMetrics.URI_TEMPLATE, request.getUriTemplate());
+
+        WebApiClientProperties.Host host = properties.getHost(getHost(request.getUrl()));
+        if (host != null && host.getReadTimeout() != null) {
+            Duration readTimeout = host.getReadTimeout();
+            spec.httpRequest(httpRequest -> {
+                Object nativeRequest = httpRequest.getNativeRequest();
+                if (nativeRequest instanceof HttpClientRequest) {
+                    ((HttpClientRequest) nativeRequest).responseTimeout(readTimeout);
+                }
+            });
+        }
+
         return request.getBody() != null ? spec.bodyValue(request.getBody()) : spec;
     }
+
+    /**
+     * 설정에 따라 이름이 지정된 {@link ConnectionProvider}를 생성합니다.
+     *
+     * @param properties 커넥션 풀 설정
+     * @return 호스트별 설정이 적용된 ConnectionProvider
+     */
+    private static ConnectionProvider connectionProvider(WebApiClientProperties properties) {
+        ConnectionProvider.Builder builder = pool(ConnectionProvider.builder(properties.getPoolName()), properties)
+                .evictInBackground(properties.getEvictInBackground())
+                .metrics(properties.isMetrics());
+
+        for (WebApiClientProperties.Host host : properties.getHosts()) {
+            builder.forRemoteHost(AddressUtils.createUnresolved(WebApiClientProperties.normalizeHost(host.getHost()), host.getPort()),
+                    spec -> pool(spec, properties, host));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * 기본 풀 설정을 적용합니다.
+     */
+    private static <S extends ConnectionPoolSpec<S>> S pool(S spec, WebApiClientProperties properties) {
+        return spec.maxConnections(properties.getMaxConnections())
+                .pendingAcquireMaxCount(properties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(properties.getPendingAcquireTimeout())
+                .maxIdleTime(properties.getMaxIdleTime())
+                .maxLifeTime(properties.getMaxLifeTime());
+    }
+
+    /**
+     * 호스트별 풀 설정을 적용합니다. 지정하지 않은 값은 기본값을 따릅니다.
+     */
+    private static <S extends ConnectionPoolSpec<S>> S pool(S spec, WebApiClientProperties properties,
+                                                          WebApiClientProperties.Host host) {
+        pool(spec, properties);
+        if (host.getMaxConnections() != null) spec.maxConnections(host.getMaxConnections());
+        if (host.getPendingAcquireMaxCount() != null) spec.pendingAcquireMaxCount(host.getPendingAcquireMaxCount());
+        if (host.getPendingAcquireTimeout() != null) spec.pendingAcquireTimeout(host.getPendingAcquireTimeout());
+        if (host.getMaxIdleTime() != null) spec.maxIdleTime(host.getMaxIdleTime());
+        if (host.getMaxLifeTime() != null) spec.maxLifeTime(host.getMaxLifeTime());
+
+        return spec;
+    }
+
+    /**
+     * 커넥션 풀과 타임아웃, 프로토콜 설정이 적용된 {@link HttpClient}를 생성합니다.
+     * 메트릭을 사용하면 송수신 바이트, 연결 시간 등 {@code reactor.netty.http.client.*} 메트릭을 기록합니다.
+     * 이 단계에서는 URI 템플릿을 알 수 없으므로 태그 수가 늘어나지 않도록 {@code uri} 태그는 고정 값으로 기록합니다.
+     *
+     * @param connectionProvider 사용할 커넥션 풀
+     * @param properties         타임아웃, 프로토콜 설정
+     * @return 설정이 적용된 HttpClient
+     */
+    private static HttpClient httpClient(ConnectionProvider connectionProvider, WebApiClientProperties properties) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .compress(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .responseTimeout(properties.getReadTimeout())
+                .metrics(properties.isMetrics(), uri -> ApiClientMetrics.NO_URI_TEMPLATE);
+
+        return properties.isHttp2()
+                ? httpClient.secure().protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+                : httpClient;
+    }
+
+    /**
+     * 응답 처리 스케줄러를 생성합니다. 가상 스레드를 사용할 수 있으면 가상 스레드 스케줄러를 생성합니다.
+     *
+     * @param properties 스케줄러 설정
+     * @return 응답 처리 스케줄러
+     */
+    private static Scheduler scheduler(WebApiClientProperties properties) {
+        if (properties.isVirtualThreads()) {
+            try {
+                ExecutorService executor = (ExecutorService) Executors.class
+                        .getMethod("newVirtualThreadPerTaskExecutor")
+                        .invoke(null);
+                return Schedulers.fromExecutorService(executor, properties.getPoolName());
+            } catch (ReflectiveOperationException e) {
+                log.debug("Virtual threads are not available, using bounded elastic scheduler");
+            }
+        }
+
+        return Schedulers.newBoundedElastic(properties.getSchedulerThreads(),
+                properties.getSchedulerQueueSize(), properties.getPoolName(), 60, true);
+    }
+
+    /**
+     * URL에서 호스트 이름을 추출합니다. IPv6 주소는 대괄호를 제거하여 반환합니다.
+     *
+     * @param url 요청 URL
+     * @return 호스트 이름, 추출할 수 없으면 {@code null}
+     */
+    static String getHost(String url) {
+        if (url == null) return null;
+
+        int start = url.indexOf("://");
+        if (start < 0) return null;
+        start += 3;
+
+        int end = start;
+        while (end < url.length()) {
+            char c = url.charAt(end);
+            if (c == '/' || c == '?' || c == '#') break;
+            end++;
+        }
+
+        int at = url.lastIndexOf('@', end - 1);
+        if (at >= start) start = at + 1;
+
+        if (start < end && url.charAt(start) == '[') {
+            int bracket = url.indexOf(']', start);
+            if (bracket > start && bracket < end) {
+                start++;
+                end = bracket;
+            }
+        } else {
+            int port = url.indexOf(':', start);
+            if (port >= 0 && port < end) end = port;
+        }
+
+        return start < end ? url.substring(start, end) : null;
+    }
 }
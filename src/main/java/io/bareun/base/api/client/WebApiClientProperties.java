@@ -0,0 +1,281 @@
+package io.bareun.base.api.client;
+
+import io.bareun.base.api.request.ApiRequestPolicy;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link WebApiClient}의 커넥션 풀, 타임아웃, 프로토콜 설정입니다.
+ * <p>
+ * {@code bareun.api.client} 접두사로 기본값을 지정하고, {@code hosts} 목록으로 업스트림 호스트별 값을 덮어씁니다.
+ * 호스트별 설정에서 지정하지 않은 값은 기본값을 따릅니다.
+ * <pre>
+ * bareun:
+ *   api:
+ *     client:
+ *       max-connections: 200
+ *       connect-timeout: 3s
+ *       read-timeout: 10s
+ *       hosts:
+ *         - host: api.example.com
+ *           port: 443
+ *           max-connections: 50
+ *           read-timeout: 30s
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "bareun.api.client")
+public class WebApiClientProperties {
+
+    /**
+     * 커넥션 풀 이름 (메트릭 태그로 사용)
+     */
+    private String poolName = "web-api-client";
+
+    /**
+     * 호스트당 최대 커넥션 수
+     */
+    private int maxConnections = 500;
+
+    /**
+     * 커넥션 획득 대기열의 최대 길이 (-1이면 제한 없음)
+     */
+    private int pendingAcquireMaxCount = 1000;
+
+    /**
+     * 커넥션 획득 대기 최대 시간
+     */
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(45);
+
+    /**
+     * 유휴 커넥션을 유지하는 최대 시간
+     */
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+
+    /**
+     * 커넥션을 재사용하는 최대 시간
+     */
+    private Duration maxLifeTime = Duration.ofMinutes(10);
+
+    /**
+     * 유휴/만료 커넥션을 백그라운드에서 정리하는 주기
+     */
+    private Duration evictInBackground = Duration.ofSeconds(30);
+
+    /**
+     * 연결 타임아웃
+     */
+    private Duration connectTimeout = Duration.ofSeconds(3);
+
+    /**
+     * 응답 타임아웃 (요청 전송 후 응답을 받기까지의 최대 시간)
+     */
+    private Duration readTimeout = Duration.ofSeconds(30);
+
+    /**
+     * 응답 본문을 메모리에 버퍼링할 수 있는 기본 최대 크기
+     */
+    private DataSize maxInMemorySize = DataSize.ofMegabytes(5);
+
+    /**
+     * HTTP/2 사용 여부 (TLS ALPN 협상에 실패하면 HTTP/1.1을 사용)
+     */
+    private boolean http2;
+
+    /**
+     * 커넥션 풀, 요청 메트릭 수집 여부 (Micrometer가 있을 때만 적용)
+     */
+    private boolean metrics = true;
+
+    /**
+     * 요청 타이머의 백분위 히스토그램 발행 여부 (태그 조합마다 버킷 시계열이 생기므로 기본값은 발행하지 않음)
+     */
+    private boolean percentileHistogram = false;
+
+    /**
+     * 응답 본문 로깅 여부 ({@link io.bareun.base.api.request.ApiResponseLogging})
+     */
+    private boolean logResponseBody = true;
+
+    /**
+     * 응답 본문을 로깅할 비율 (0 ~ 1)
+     */
+    private double logSampleRate = 1.0;
+
+    /**
+     * 로깅할 응답 본문의 최대 길이 (음수이면 제한하지 않음)
+     */
+    private int logMaxLength = 1000;
+
+    /**
+     * 응답 처리 스케줄러의 최대 스레드 수 (가상 스레드를 사용하면 무시)
+     */
+    private int schedulerThreads = 10 * Runtime.getRuntime().availableProcessors();
+
+    /**
+     * 응답 처리 스케줄러의 스레드당 대기 작업 수
+     */
+    private int schedulerQueueSize = 100000;
+
+    /**
+     * JDK 21 이상에서 응답 처리에 가상 스레드를 사용할지 여부
+     */
+    private boolean virtualThreads = true;
+
+    /**
+     * 호스트당 초당 최대 요청 수 (0이면 제한하지 않음)
+     */
+    private double rateLimit;
+
+    /**
+     * 요청 제한의 최대 버스트 크기 (0이면 초당 최대 요청 수와 같음)
+     */
+    private int rateLimitBurst;
+
+    /**
+     * 기본 타임아웃, 재시도, 서킷 브레이커 정책
+     */
+    private ApiRequestPolicy policy = new ApiRequestPolicy();
+
+    /**
+     * 응답 캐시 설정
+     */
+    private ResponseCache cache = new ResponseCache();
+
+    /**
+     * 업스트림 호스트별 설정
+     */
+    private List<Host> hosts = new ArrayList<>();
+
+    /**
+     * 주어진 호스트의 설정을 반환합니다. IPv6 주소는 대괄호 유무와 관계없이 비교합니다.
+     *
+     * @param host 호스트 이름
+     * @return 호스트별 설정, 없으면 {@code null}
+     */
+    public Host getHost(String host) {
+        if (host == null) return null;
+
+        String name = normalizeHost(host);
+        for (Host each : hosts) {
+            if (name.equalsIgnoreCase(normalizeHost(each.getHost()))) return each;
+        }
+
+        return null;
+    }
+
+    /**
+     * IPv6 주소를 감싼 대괄호를 제거합니다.
+     *
+     * @param host 호스트 이름
+     * @return 대괄호를 제거한 호스트 이름
+     */
+    static String normalizeHost(String host) {
+        if (host != null && host.length() > 1 && host.charAt(0) == '[' && host.charAt(host.length() - 1) == ']') {
+            return host.substring(1, host.length() - 1);
+        }
+
+        return host;
+    }
+
+    /**
+     * 업스트림 호스트별 설정입니다. {@code null}인 값은 기본값을 따릅니다.
+     */
+    @Getter
+    @Setter
+    public static class Host {
+
+        /**
+         * 호스트 이름 (IPv6 주소는 대괄호 없이 지정해도 됨)
+         */
+        private String host;
+
+        /**
+         * 포트
+         */
+        private int port = 443;
+
+        /**
+         * 최대 연결 수, 없으면 전역 설정
+         */
+        private Integer maxConnections;
+
+        /**
+         * 연결 대기 요청의 최대 개수, 없으면 전역 설정
+         */
+        private Integer pendingAcquireMaxCount;
+
+        /**
+         * 연결 대기 타임아웃, 없으면 전역 설정
+         */
+        private Duration pendingAcquireTimeout;
+
+        /**
+         * 유휴 연결 유지 시간, 없으면 전역 설정
+         */
+        private Duration maxIdleTime;
+
+        /**
+         * 연결 최대 수명, 없으면 전역 설정
+         */
+        private Duration maxLifeTime;
+
+        /**
+         * 연결 타임아웃
+         */
+        private Duration connectTimeout;
+
+        /**
+         * 응답 타임아웃
+         */
+        private Duration readTimeout;
+
+        /**
+         * 초당 최대 요청 수
+         */
+        private Double rateLimit;
+
+        /**
+         * 요청 제한의 최대 버스트 크기
+         */
+        private Integer rateLimitBurst;
+
+        /**
+         * 타임아웃, 재시도, 서킷 브레이커 정책
+         */
+        private ApiRequestPolicy policy;
+    }
+
+    /**
+     * 응답 캐시 설정입니다. 캐시는 {@code ApiRequest#getCacheTtl()}을 지정한 요청에만 적용됩니다.
+     */
+    @Getter
+    @Setter
+    public static class ResponseCache {
+
+        /**
+         * 최대 항목 수
+         */
+        private long maxSize = 10000;
+
+        /**
+         * 캐시 키에 포함할 요청 헤더
+         */
+        private List<String> keyHeaders = new ArrayList<>(Arrays.asList("Authorization", "Accept", "Accept-Language"));
+
+        /**
+         * 만료된 항목을 ETag 재검증을 위해 더 보관하는 시간
+         */
+        private Duration staleRetention = Duration.ofMinutes(5);
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.util.MultiValueMap;
 
+import java.time.Duration;
 import java.util.function.Consumer;
 
 /**
@@ -43,6 +44,50 @@ public interface ApiRequest<T> {
      */
     Class<T> getResponseType();
 
+    /**
+     * 응답 본문을 메모리에 버퍼링할 수 있는 최대 크기(바이트)를 반환합니다.
+     * 기본적으로 -1을 반환하며, 이 경우 {@code WebApiClient}의 기본 설정을 따릅니다.
+     * <p>
+     * {@code Flux}로 스트리밍하는 경우에는 응답 전체가 아닌 요소 하나의 최대 크기에 적용됩니다.
+     *
+     * @return 최대 버퍼 크기(바이트), 기본 설정을 따르면 -1
+     */
+    default int getMaxInMemorySize() {
+        return -1;
+    }
+
+    /**
+     * 타임아웃, 재시도, 서킷 브레이커 정책을 반환합니다.
+     * 기본적으로 {@code null}을 반환하며, 이 경우 {@code WebApiClient}의 호스트별 또는 기본 정책을 따릅니다.
+     *
+     * @return 요청 정책
+     */
+    default ApiRequestPolicy getPolicy() {
+        return null;
+    }
+
+    /**
+     * 응답 캐시 유지 시간을 반환합니다. 기본적으로 {@code null}을 반환하며, 이 경우 캐시하지 않습니다.
+     * <p>
+     * GET, HEAD 요청에만 적용되며, 응답의 {@code Cache-Control: max-age}가 더 짧으면 그 값을 따르고
+     * {@code no-store}이면 캐시하지 않습니다. 같은 요청이 동시에 들어오면 한 번만 호출합니다.
+     *
+     * @return 응답 캐시 유지 시간
+     */
+    default Duration getCacheTtl() {
+        return null;
+    }
+
+    /**
+     * 메트릭 태그에 사용할 URI 템플릿을 반환합니다. (예: {@code /users/{id}})
+     * 기본적으로 {@code null}을 반환하며, 이 경우 URL 경로의 숫자, UUID 등 식별자 구간을 {@code {id}}로 바꿔 사용합니다.
+     *
+     * @return URI 템플릿
+     */
+    default String getUriTemplate() {
+        return null;
+    }
+
     /**
      * HTTP 헤더를 반환합니다. 기본적으로 빈 {@link HttpHeaders}를 반환합니다.
      *
@@ -54,12 +99,12 @@ public interface ApiRequest<T> {
 
     /**
      * 성공적인 응답을 처리하는 기본 소비자를 반환합니다.
-     * 기본적으로 로그를 남깁니다.
+     * 기본적으로 호출한 클라이언트의 {@link ApiResponseLogging} 설정에 따라 로그를 남깁니다.
      *
      * @return 성공적인 응답을 처리하는 {@link Consumer}
      */
     default Consumer<T> getSubscribe() {
-        return (response) -> getLogger().info("Api request subscribe: {}", response);
+        return (response) -> ApiResponseLogging.log(getLogger(), response);
     }
 
     /**
@@ -6,6 +6,8 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.util.MultiValueMap;
 
+import java.time.Duration;
+
 /**
  * API 요청을 빌드하는 빌더 클래스입니다.
  *
@@ -17,6 +19,10 @@ public class ApiRequestBuilder<T> {
     private String url;
     private Object body;
     private Class<T> responseType;
+    private int maxInMemorySize = -1;
+    private ApiRequestPolicy policy;
+    private Duration cacheTtl;
+    private String uriTemplate;
     private final HttpHeaders headers = new HttpHeaders();
 
     /**
@@ -96,13 +102,57 @@ public class ApiRequestBuilder<T> {
         return this;
     }
 
+    /**
+     * 응답 본문을 메모리에 버퍼링할 수 있는 최대 크기를 설정합니다.
+     *
+     * @param maxInMemorySize 최대 버퍼 크기(바이트), -1이면 기본 설정을 따릅니다.
+     * @return 현재 ApiRequestBuilder 인스턴스
+     */
+    public ApiRequestBuilder<T> maxInMemorySize(int maxInMemorySize) {
+        this.maxInMemorySize = maxInMemorySize;
+        return this;
+    }
+
+    /**
+     * 타임아웃, 재시도, 서킷 브레이커 정책을 설정합니다.
+     *
+     * @param policy 요청 정책
+     * @return 현재 ApiRequestBuilder 인스턴스
+     */
+    public ApiRequestBuilder<T> policy(ApiRequestPolicy policy) {
+        this.policy = policy;
+        return this;
+    }
+
+    /**
+     * 응답 캐시 유지 시간을 설정합니다.
+     *
+     * @param cacheTtl 응답 캐시 유지 시간
+     * @return 현재 ApiRequestBuilder 인스턴스
+     */
+    public ApiRequestBuilder<T> cache(Duration cacheTtl) {
+        this.cacheTtl = cacheTtl;
+        return this;
+    }
+
+    /**
+     * 메트릭 태그에 사용할 URI 템플릿을 설정합니다.
+     *
+     * @param uriTemplate URI 템플릿 (예: {@code /users/{id}})
+     * @return 현재 ApiRequestBuilder 인스턴스
+     */
+    public ApiRequestBuilder<T> uriTemplate(String uriTemplate) {
+        this.uriTemplate = uriTemplate;
+        return this;
+    }
+
     /**
      * 설정된 값들로 {@link ApiRequest} 인스턴스를 빌드합니다.
      *
      * @return 빌드된 ApiRequest 인스턴스
      */
     public ApiRequest<T> build() {
-        return new DefaultApiRequest<>(method, url, headers, body, responseType);
+        return new DefaultApiRequest<>(method, url, headers, body, responseType, maxInMemorySize, policy, cacheTtl, uriTemplate);
     }
 
     /**
@@ -119,5 +169,9 @@ public class ApiRequestBuilder<T> {
         private final HttpHeaders headers;
         private final Object body;
         private final Class<T> responseType;
+        private final int maxInMemorySize;
+        private final ApiRequestPolicy policy;
+        private final Duration cacheTtl;
+        private final String uriTemplate;
     }
 }
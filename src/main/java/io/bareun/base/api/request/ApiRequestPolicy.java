@@ -0,0 +1,111 @@
+package io.bareun.base.api.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.http.HttpMethod;
+
+import java.time.Duration;
+
+/**
+ * API 요청의 타임아웃, 재시도, 서킷 브레이커 정책입니다.
+ * <p>
+ * 요청별로 {@link ApiRequest#getPolicy()}에서 반환하거나, {@code bareun.api.client.policy}(기본값)와
+ * {@code bareun.api.client.hosts[].policy}(호스트별)로 지정합니다.
+ * 재시도는 멱등 메서드(GET, HEAD, OPTIONS, PUT, DELETE, TRACE)에만 적용되며, {@code retryNonIdempotent}로 변경할 수 있습니다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiRequestPolicy {
+
+    /**
+     * 시도 한 번의 타임아웃, 요청 제한 대기가 끝난 뒤부터 측정 ({@code null}이면 적용하지 않음)
+     */
+    private Duration timeout;
+
+    /**
+     * 요청 제한 대기와 재시도를 포함한 요청 전체의 제한 시간 ({@code null}이면 적용하지 않음)
+     */
+    private Duration deadline;
+
+    /**
+     * 최대 재시도 횟수
+     */
+    private int maxRetries;
+
+    /**
+     * 첫 재시도 대기 시간 (재시도마다 두 배씩 증가)
+     */
+    @Builder.Default
+    private Duration retryBackoff = Duration.ofMillis(100);
+
+    /**
+     * 최대 재시도 대기 시간
+     */
+    @Builder.Default
+    private Duration maxRetryBackoff = Duration.ofSeconds(2);
+
+    /**
+     * 재시도 대기 시간에 적용할 지터 비율 (0 ~ 1)
+     */
+    @Builder.Default
+    private double retryJitter = 0.5;
+
+    /**
+     * 멱등이 아닌 메서드(POST, PATCH)도 재시도할지 여부
+     */
+    private boolean retryNonIdempotent;
+
+    /**
+     * 호스트 단위 서킷 브레이커 사용 여부
+     * (서킷 브레이커 설정은 호스트별 또는 기본 정책에만 지정할 수 있으며, 요청별 정책에서 켜면 요청이 거부됩니다)
+     */
+    private boolean circuitBreaker;
+
+    /**
+     * 서킷을 여는 실패율 (0 ~ 1)
+     */
+    @Builder.Default
+    private double failureRateThreshold = 0.5;
+
+    /**
+     * 실패율을 계산할 최근 호출 수
+     */
+    @Builder.Default
+    private int slidingWindowSize = 50;
+
+    /**
+     * 실패율을 계산하기 위한 최소 호출 수
+     */
+    @Builder.Default
+    private int minimumCalls = 20;
+
+    /**
+     * 서킷이 열린 뒤 반개방 상태로 전환하기까지의 시간
+     */
+    @Builder.Default
+    private Duration openDuration = Duration.ofSeconds(30);
+
+    /**
+     * 반개방 상태에서 허용하는 시험 호출 수
+     */
+    @Builder.Default
+    private int halfOpenCalls = 3;
+
+    /**
+     * 주어진 메서드의 요청을 재시도할 수 있는지 확인합니다.
+     *
+     * @param method HTTP 메서드
+     * @return 재시도할 수 있으면 {@code true}
+     */
+    public boolean isRetryable(HttpMethod method) {
+        if (maxRetries <= 0) return false;
+
+        return retryNonIdempotent || method != HttpMethod.POST && method != HttpMethod.PATCH;
+    }
+}
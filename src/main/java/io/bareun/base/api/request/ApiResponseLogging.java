@@ -0,0 +1,123 @@
+package io.bareun.base.api.request;
+
+import org.slf4j.Logger;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ApiResponseLogging 클래스는 {@link ApiRequest#getSubscribe()}의 기본 응답 본문 로깅을 설정합니다.
+ * <p>
+ * 응답 본문을 문자열로 변환하는 비용이 크기 때문에, 로깅 여부와 샘플링 비율, 최대 길이를 지정할 수 있습니다.
+ * 설정은 클라이언트마다 {@code bareun.api.client.log-response-body}, {@code log-sample-rate}, {@code log-max-length}로
+ * 지정하며, 클라이언트는 응답 콜백을 {@link #run(Runnable)}으로 실행하여 자신의 설정을 적용합니다.
+ * 클라이언트 밖에서 호출되면 {@link #DEFAULT} 설정을 사용합니다.
+ */
+public class ApiResponseLogging {
+
+    /**
+     * 기본 설정 (모든 응답 본문을 최대 1000자까지 로깅)
+     */
+    public static final ApiResponseLogging DEFAULT = new ApiResponseLogging(true, 1.0, 1000);
+
+    /**
+     * 현재 스레드에서 실행 중인 응답 콜백에 적용할 설정
+     */
+    private static final ThreadLocal<ApiResponseLogging> CURRENT = new ThreadLocal<>();
+
+    /**
+     * 로깅 여부
+     */
+    private final boolean enabled;
+
+    /**
+     * 로깅할 비율 (0 ~ 1)
+     */
+    private final double sampleRate;
+
+    /**
+     * 로깅할 최대 길이 (음수이면 제한하지 않음)
+     */
+    private final int maxLength;
+
+    /**
+     * 응답 본문 로깅 설정을 생성합니다.
+     *
+     * @param enabled    로깅 여부
+     * @param sampleRate 로깅할 비율 (0 ~ 1)
+     * @param maxLength  로깅할 최대 길이 (음수이면 제한하지 않음)
+     * @throws IllegalArgumentException 비율이 0 ~ 1 범위를 벗어난 경우
+     */
+    public ApiResponseLogging(boolean enabled, double sampleRate, int maxLength) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("sampleRate must be between 0 and 1");
+        }
+
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * 현재 응답 콜백에 적용된 설정에 따라 응답 본문을 INFO 레벨로 로깅합니다.
+     *
+     * @param logger   사용할 로거
+     * @param response 응답 본문
+     */
+    public static void log(Logger logger, Object response) {
+        ApiResponseLogging logging = CURRENT.get();
+
+        (logging != null ? logging : DEFAULT).write(logger, response);
+    }
+
+    /**
+     * 이 설정을 적용하여 응답 콜백을 실행합니다.
+     * 콜백 안에서 호출된 {@link #log(Logger, Object)}는 이 설정을 사용합니다.
+     *
+     * @param action 실행할 응답 콜백
+     */
+    public void run(Runnable action) {
+        ApiResponseLogging previous = CURRENT.get();
+        CURRENT.set(this);
+
+        try {
+            action.run();
+        } finally {
+            if (previous != null) CURRENT.set(previous);
+            else CURRENT.remove();
+        }
+    }
+
+    /**
+     * 이 설정에 따라 응답 본문을 INFO 레벨로 로깅합니다.
+     * 로깅하지 않는 경우에는 응답 본문을 문자열로 변환하지 않습니다.
+     *
+     * @param logger   사용할 로거
+     * @param response 응답 본문
+     */
+    public void write(Logger logger, Object response) {
+        if (!enabled || !logger.isInfoEnabled()) {
+            return;
+        }
+
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+
+        String text = String.valueOf(response);
+
+        if (maxLength >= 0 && text.length() > maxLength) {
+            text = text.substring(0, maxLength) + "...(" + text.length() + " chars)";
+        }
+
+        logger.info("Api request subscribe: {}", text);
+    }
+
+    /**
+     * 응답 본문 로깅 여부를 반환합니다.
+     *
+     * @return 로깅 여부
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
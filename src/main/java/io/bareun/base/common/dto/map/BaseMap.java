@@ -2,6 +2,9 @@ package io.bareun.base.common.dto.map;
 
 import org.apache.commons.collections4.MapUtils;
 
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -9,14 +12,19 @@ import java.util.Map;
 
 import static io.bareun.base.common.util.ObjectMapperUtils.convert;
 import static io.bareun.base.common.util.ObjectMapperUtils.convertList;
-import static org.apache.commons.text.CaseUtils.toCamelCase;
 
 /**
  * 키-값 쌍을 보관하고 조작하는 데 사용되는 DTO 맵 클래스입니다.
  * 기본적으로 키를 camelCase로 변환합니다.
+ * 키 변환 결과는 {@link BaseMapKeys}에 캐시되며, 같은 키 구성의 행은 {@link BaseMapShape}로 한 번만 변환할 수 있습니다.
  */
 public class BaseMap extends HashMap<String, Object> {
 
+    /**
+     * 기본형 조회 메서드에서 파싱한 문자열 값을 변환된 값으로 바꿔 저장할지 여부
+     */
+    private boolean cacheParsedValues;
+
     /**
      * 기본 생성자입니다.
      * 이는 상위 클래스의 생성자를 호출하게 됩니다.
@@ -25,6 +33,15 @@ public class BaseMap extends HashMap<String, Object> {
         super();
     }
 
+    /**
+     * 주어진 초기 용량으로 초기화합니다.
+     *
+     * @param initialCapacity 초기 용량
+     */
+    public BaseMap(int initialCapacity) {
+        super(initialCapacity);
+    }
+
     /**
      * 주어진 키와 값을 가지고 초기화합니다.
      *
@@ -58,12 +75,15 @@ public class BaseMap extends HashMap<String, Object> {
 
     /**
      * JSON 문자열로부터 맵을 생성합니다.
+     * 중간 Map 없이 {@link BaseMapParser}로 바로 읽습니다. 최상위 키만 camelCase로 변환하며,
+     * 중첩 객체는 원래 키의 Map으로 유지되고 {@link #getMap(String)}으로 조회할 때 camelCase 키의 BaseMap으로 바뀝니다.
+     * 중첩 객체의 키까지 변환하려면 {@link BaseMapParser#ALL}을 사용합니다.
      *
      * @param json JSON 문자열
      */
     public BaseMap(String json) {
         super();
-        putAll(convert(json));
+        BaseMapParser.TOP_LEVEL.parse(json, this);
     }
 
     /**
@@ -86,6 +106,61 @@ public class BaseMap extends HashMap<String, Object> {
         return new BaseMap(json);
     }
 
+    /**
+     * JSON 바이트 배열로부터 BaseMap을 생성합니다.
+     * 특정 필드만 읽으려면 {@link BaseMapParser#of(String...)}를 사용합니다.
+     *
+     * @param json JSON 바이트 배열
+     * @return BaseMap 인스턴스
+     */
+    public static BaseMap parse(byte[] json) {
+        return BaseMapParser.ALL.parse(json);
+    }
+
+    /**
+     * JSON 입력 스트림으로부터 BaseMap을 생성합니다. 스트림은 닫지 않습니다.
+     *
+     * @param json JSON 입력 스트림
+     * @return BaseMap 인스턴스
+     */
+    public static BaseMap parse(InputStream json) {
+        return BaseMapParser.ALL.parse(json);
+    }
+
+    /**
+     * JSON ByteBuffer로부터 BaseMap을 생성합니다. ByteBuffer의 위치는 변경하지 않습니다.
+     *
+     * @param json JSON ByteBuffer
+     * @return BaseMap 인스턴스
+     */
+    public static BaseMap parse(ByteBuffer json) {
+        return BaseMapParser.ALL.parse(json);
+    }
+
+    /**
+     * 같은 키 구성을 가진 맵 목록을 BaseMap 목록으로 변환합니다.
+     * 첫 번째 맵의 키 구성으로 {@link BaseMapShape}를 만들어 모든 행의 키 변환에 재사용합니다.
+     *
+     * @param maps 변환할 맵 목록
+     * @return BaseMap 목록
+     */
+    public static List<BaseMap> ofList(List<? extends Map<String, ?>> maps) {
+        List<BaseMap> list = new ArrayList<>(maps.size());
+        BaseMapShape shape = null;
+
+        for (Map<String, ?> map : maps) {
+            if (shape == null) {
+                shape = BaseMapShape.of(map);
+            }
+
+            BaseMap baseMap = new BaseMap(map.size() * 4 / 3 + 1);
+            baseMap.putAll(map, shape);
+            list.add(baseMap);
+        }
+
+        return list;
+    }
+
     /**
      * 주어진 키와 값을 camelCase 형식으로 변환하여 맵에 추가합니다.
      *
@@ -110,6 +185,19 @@ public class BaseMap extends HashMap<String, Object> {
         }
     }
 
+    /**
+     * 주어진 맵의 모든 항목을 BaseMapShape의 변환된 키로 이 맵에 추가합니다.
+     * 같은 키 구성의 맵을 반복해서 추가할 때 키마다 변환하지 않습니다.
+     *
+     * @param map   추가할 맵
+     * @param shape 맵의 키 구성
+     */
+    public void putAll(Map<? extends String, ?> map, BaseMapShape shape) {
+        for (Map.Entry<? extends String, ?> entry : map.entrySet()) {
+            super.put(shape.camelCase(entry.getKey()), entry.getValue());
+        }
+    }
+
     /**
      * 주어진 키와 값을 맵에 추가하고, 이 BaseMap 인스턴스를 반환합니다.
      *
@@ -227,35 +315,252 @@ public class BaseMap extends HashMap<String, Object> {
         return MapUtils.getInteger(this, key);
     }
 
+    /**
+     * 주어진 키에 해당하는 long 값을 반환합니다.
+     * <p>
+     * 숫자 값은 박싱 없이 변환하고, 문자열 값은 {@link java.text.NumberFormat} 없이 직접 파싱합니다.
+     * {@link #setCacheParsedValues(boolean)}가 설정되어 있으면 파싱한 값을 맵에 다시 저장합니다.
+     *
+     * @param key          검색할 키
+     * @param defaultValue 값이 없거나, 변환할 수 없거나, 정수가 아닌 문자열("1.9")인 경우의 기본값
+     * @return long 값
+     */
+    public long getLongValue(String key, long defaultValue) {
+        Object value = get(key);
+
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        } else if (value instanceof String) {
+            try {
+                long parsed = BaseMapValues.parseLong((String) value);
+                if (cacheParsedValues) {
+                    put(key, parsed);
+                }
+
+                return parsed;
+            } catch (NumberFormatException e) {
+                return defaultValue;
+            }
+        }
+
+        return defaultValue;
+    }
+
+    /**
+     * 주어진 키에 해당하는 int 값을 반환합니다.
+     * 숫자 값은 박싱 없이 변환하고, 문자열 값은 직접 파싱합니다.
+     *
+     * @param key          검색할 키
+     * @param defaultValue 값이 없거나, 변환할 수 없거나, int 범위를 벗어나는 경우의 기본값
+     * @return int 값
+     */
+    public int getIntValue(String key, int defaultValue) {
+        Object value = get(key);
+
+        if (value instanceof Number) {
+            long number = ((Number) value).longValue();
+            return number == (int) number ? (int) number : defaultValue;
+        } else if (value instanceof String) {
+            try {
+                int parsed = Math.toIntExact(BaseMapValues.parseLong((String) value));
+                if (cacheParsedValues) {
+                    put(key, parsed);
+                }
+
+                return parsed;
+            } catch (NumberFormatException | ArithmeticException e) {
+                return defaultValue;
+            }
+        }
+
+        return defaultValue;
+    }
+
+    /**
+     * 주어진 키에 해당하는 double 값을 반환합니다.
+     * 숫자 값은 박싱 없이 변환하고, 문자열 값은 직접 파싱합니다.
+     *
+     * @param key          검색할 키
+     * @param defaultValue 값이 없거나 변환할 수 없는 경우의 기본값
+     * @return double 값
+     */
+    public double getDoubleValue(String key, double defaultValue) {
+        Object value = get(key);
+
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        } else if (value instanceof String) {
+            try {
+                double parsed = BaseMapValues.parseDouble((String) value);
+                if (cacheParsedValues) {
+                    put(key, parsed);
+                }
+
+                return parsed;
+            } catch (NumberFormatException e) {
+                return defaultValue;
+            }
+        }
+
+        return defaultValue;
+    }
+
+    /**
+     * 주어진 키에 해당하는 boolean 값을 반환합니다.
+     * 숫자 값은 0이 아니면 true이며, 문자열 값은 대소문자를 구분하지 않고 "true", "false"만 변환합니다.
+     *
+     * @param key          검색할 키
+     * @param defaultValue 값이 없거나 변환할 수 없는 경우의 기본값
+     * @return boolean 값
+     */
+    public boolean getBooleanValue(String key, boolean defaultValue) {
+        Object value = get(key);
+
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        } else if (value instanceof Number) {
+            return ((Number) value).intValue() != 0;
+        } else if (value instanceof String) {
+            try {
+                boolean parsed = BaseMapValues.parseBoolean((String) value);
+                if (cacheParsedValues) {
+                    put(key, parsed);
+                }
+
+                return parsed;
+            } catch (IllegalArgumentException e) {
+                return defaultValue;
+            }
+        }
+
+        return defaultValue;
+    }
+
+    /**
+     * 기본형 조회 메서드에서 파싱한 문자열 값을 변환된 값으로 바꿔 저장할지 설정합니다.
+     * 같은 키를 반복해서 조회하는 경우 두 번째 조회부터 파싱하지 않습니다.
+     *
+     * @param cacheParsedValues 파싱한 값 저장 여부
+     * @return BaseMap 인스턴스
+     */
+    public BaseMap setCacheParsedValues(boolean cacheParsedValues) {
+        this.cacheParsedValues = cacheParsedValues;
+        return this;
+    }
+
     /**
      * 주어진 키에 해당하는 맵을 반환합니다.
+     * <p>
+     * 값이 BaseMap이면 그대로 반환하고, 그 외의 Map이면 한 단계만 camelCase 키의 BaseMap으로 바꿔 반환합니다.
+     * {@link #setCacheParsedValues(boolean)}가 설정된 경우에만 바꾼 맵을 이 맵에 다시 저장하여 이후 조회에서 재사용합니다.
+     * Map이 아닌 객체는 Jackson으로 변환합니다.
+     * <p>
+     * 저장된 BaseMap과 재사용하는 맵은 복사본이 아닌 같은 인스턴스이므로, 반환된 맵을 변경하면
+     * 이 맵과 같은 키를 조회한 다른 호출자에게도 반영됩니다. 독립적으로 변경하려면 복사하여 사용합니다.
      *
      * @param key 검색할 키
      * @return BaseMap 객체 또는 null
      */
     public BaseMap getMap(String key) {
-        return get(key) != null ? convert(get(key), BaseMap.class) : null;
+        Object value = get(key);
+
+        if (value == null || value instanceof BaseMap) {
+            return (BaseMap) value;
+        } else if (value instanceof Map) {
+            BaseMap map = nested((Map<?, ?>) value);
+
+            if (cacheParsedValues) {
+                put(key, map);
+            }
+
+            return map;
+        }
+
+        return convert(value, BaseMap.class);
     }
 
     /**
      * 주어진 키에 해당하는 리스트를 반환합니다.
+     * 값이 이미 리스트이면 변환하지 않고 그대로 반환합니다.
      *
      * @param key 검색할 키
      * @return BaseMap의 리스트 또는 null
      */
+    @SuppressWarnings("unchecked")
     public <T> List<T> getList(String key) {
-        return get(key) != null ? convert(get(key)) : null;
+        Object value = get(key);
+
+        if (value == null || value instanceof List) {
+            return (List<T>) value;
+        }
+
+        return convert(value);
     }
 
     /**
      * 주어진 키에 해당하는 값의 JSON 배열을 BaseMap 객체의 리스트로 변환합니다.
      * 값이 null이면 null을 반환합니다.
+     * <p>
+     * 모든 요소가 이미 BaseMap인 리스트는 그대로 반환하고, Map의 리스트는 각 Map을 한 단계만 BaseMap으로 바꾼 새 리스트를 반환합니다.
+     * {@link #setCacheParsedValues(boolean)}가 설정된 경우에만 바꾼 리스트를 이 맵에 다시 저장합니다. 그 외의 값은 Jackson으로 변환합니다.
      *
      * @param key 변환할 JSON 배열이 포함된 맵의 키
      * @return BaseMap 객체의 리스트
      */
+    @SuppressWarnings("unchecked")
     public List<BaseMap> getMapList(String key) {
-        return get(key) != null ? convertList(get(key), BaseMap.class) : null;
+        Object value = get(key);
+
+        if (value == null || value instanceof MapList) {
+            return (MapList) value;
+        } else if (value instanceof List && isMapList((List<?>) value)) {
+            List<?> values = (List<?>) value;
+
+            if (isBaseMapList(values)) {
+                return (List<BaseMap>) values;
+            }
+
+            MapList list = new MapList(values.size());
+
+            for (Object element : values) {
+                list.add(element instanceof BaseMap ? (BaseMap) element : nested((Map<?, ?>) element));
+            }
+
+            if (cacheParsedValues) {
+                put(key, list);
+            }
+
+            return list;
+        }
+
+        return convertList(value, BaseMap.class);
+    }
+
+    /**
+     * 경로 표현식에 해당하는 값을 반환합니다.
+     * <p>
+     * 경로는 {@link BaseMapPath}로 한 번만 해석되어 캐시되며, 조회 시 Jackson 변환 없이 깊이만큼만 이동합니다.
+     * 경로 중간에 값이 없으면 null을 반환합니다.
+     *
+     * @param expression 경로 표현식 (예: "searchMap.listMapValue[0].key")
+     * @param <T>        반환할 값의 타입
+     * @return 경로에 해당하는 값 또는 null
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T path(String expression) {
+        return (T) BaseMapPath.compile(expression).resolve(this);
+    }
+
+    /**
+     * 해석된 경로에 해당하는 값을 반환합니다.
+     *
+     * @param path 해석된 경로
+     * @param <T>  반환할 값의 타입
+     * @return 경로에 해당하는 값 또는 null
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T path(BaseMapPath path) {
+        return (T) path.resolve(this);
     }
 
     /**
@@ -289,6 +594,54 @@ public class BaseMap extends HashMap<String, Object> {
         return getMapByKeys(Arrays.asList(keys));
     }
 
+    /**
+     * 중첩된 Map의 한 단계만 camelCase 키의 BaseMap으로 바꿉니다. 하위 값은 그대로 공유합니다.
+     *
+     * @param map 중첩된 Map
+     * @return BaseMap 인스턴스
+     */
+    static BaseMap nested(Map<?, ?> map) {
+        BaseMap baseMap = new BaseMap(map.size() * 4 / 3 + 1);
+
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            baseMap.put(String.valueOf(entry.getKey()), entry.getValue());
+        }
+
+        return baseMap;
+    }
+
+    /**
+     * 리스트의 모든 요소가 Map인지 확인합니다.
+     *
+     * @param list 확인할 리스트
+     * @return 모든 요소가 Map이면 true
+     */
+    private static boolean isMapList(List<?> list) {
+        for (Object element : list) {
+            if (!(element instanceof Map)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * 리스트의 모든 요소가 BaseMap인지 확인합니다.
+     *
+     * @param list 확인할 리스트
+     * @return 모든 요소가 BaseMap이면 true
+     */
+    private static boolean isBaseMapList(List<?> list) {
+        for (Object element : list) {
+            if (!(element instanceof BaseMap)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     /**
      * 주어진 키를 camelCase 형식으로 변환합니다.
      *
@@ -296,6 +649,16 @@ public class BaseMap extends HashMap<String, Object> {
      * @return camelCase 형식의 키
      */
     private String camelCase(String key) {
-        return key.contains("_") ? toCamelCase(key, false, '_') : key;
+        return BaseMapKeys.camelCase(key);
+    }
+
+    /**
+     * MapList 클래스는 {@link #getMapList(String)}에서 BaseMap으로 바꿔 저장한 리스트를 나타냅니다.
+     */
+    private static class MapList extends ArrayList<BaseMap> {
+
+        MapList(int initialCapacity) {
+            super(initialCapacity);
+        }
     }
 }
@@ -0,0 +1,87 @@
+package io.bareun.base.common.dto.map;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import static org.apache.commons.text.CaseUtils.toCamelCase;
+
+/**
+ * BaseMapKeys 클래스는 {@link BaseMap}의 snake_case 키를 camelCase 키로 변환하고, 변환 결과를 캐시합니다.
+ * <p>
+ * DB 조회 결과처럼 같은 컬럼 이름이 반복되는 경우 키마다 새 문자열을 만들지 않고 캐시된 문자열을 재사용합니다.
+ * 캐시는 여러 스레드에서 동시에 사용할 수 있으며, 최대 크기에 도달하면 자주 쓰이지 않는 키부터 제거합니다.
+ * 키의 종류가 많아도 자주 쓰이는 키의 캐시는 유지됩니다.
+ */
+public class BaseMapKeys {
+
+    /**
+     * 캐시의 기본 최대 크기
+     */
+    public static final int DEFAULT_CACHE_SIZE = 10_000;
+
+    /**
+     * 원래 키별 camelCase 키 캐시
+     */
+    private static final Cache<String, String> CACHE = Caffeine.newBuilder()
+            .maximumSize(DEFAULT_CACHE_SIZE)
+            .build();
+
+    /**
+     * 캐시 사용 여부
+     */
+    private static volatile boolean cacheEnabled = true;
+
+    /**
+     * 주어진 키를 camelCase 형식으로 변환합니다. 밑줄(_)이 없는 키는 그대로 반환합니다.
+     *
+     * @param key 변환할 키
+     * @return camelCase 형식의 키
+     */
+    public static String camelCase(String key) {
+        if (key == null || key.indexOf('_') < 0) {
+            return key;
+        }
+
+        if (!cacheEnabled) {
+            return toCamelCase(key, false, '_');
+        }
+
+        return CACHE.get(key, name -> toCamelCase(name, false, '_'));
+    }
+
+    /**
+     * 키 변환 캐시 사용 여부를 설정합니다. 사용하지 않으면 캐시를 비웁니다.
+     *
+     * @param enabled 캐시 사용 여부
+     */
+    public static void setCacheEnabled(boolean enabled) {
+        cacheEnabled = enabled;
+
+        if (!enabled) {
+            CACHE.invalidateAll();
+        }
+    }
+
+    /**
+     * 키 변환 캐시의 최대 크기를 설정합니다. 크기를 줄이면 넘치는 항목은 자주 쓰이지 않는 키부터 제거됩니다.
+     *
+     * @param size 캐시의 최대 크기
+     * @throws IllegalArgumentException 크기가 0 이하인 경우
+     */
+    public static void setCacheSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("cacheSize must be greater than 0");
+        }
+
+        CACHE.policy().eviction().ifPresent(eviction -> eviction.setMaximum(size));
+    }
+
+    /**
+     * 키 변환 캐시 사용 여부를 반환합니다.
+     *
+     * @return 캐시 사용 여부
+     */
+    public static boolean isCacheEnabled() {
+        return cacheEnabled;
+    }
+}
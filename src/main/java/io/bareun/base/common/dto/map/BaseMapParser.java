@@ -0,0 +1,266 @@
+package io.bareun.base.common.dto.map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import io.bareun.base.common.util.ObjectMapperUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * BaseMapParser 클래스는 Jackson {@link JsonParser}로 JSON을 읽어 중간 Map이나 트리 없이 바로 {@link BaseMap}을 만듭니다.
+ * <p>
+ * 키는 읽는 동안 camelCase로 변환되며, 중첩 객체는 BaseMap, 배열은 리스트로 만들어집니다.
+ * {@link BaseMap#BaseMap(String)}은 기존 동작대로 최상위 키만 변환하고 중첩 객체는 원래 키의 Map으로 읽습니다.
+ * 필드 목록을 지정하면 최상위 필드 중 목록에 없는 필드의 하위 구조는 읽지 않고 건너뜁니다.
+ * 생성 이후에는 변경되지 않으므로 여러 스레드에서 공유할 수 있습니다.
+ */
+public class BaseMapParser {
+
+    /**
+     * 모든 필드를 읽는 기본 파서
+     */
+    public static final BaseMapParser ALL = new BaseMapParser(null, true);
+
+    /**
+     * 모든 필드를 읽되 중첩 객체의 키는 변환하지 않고 {@link LinkedHashMap}으로 읽는 파서
+     */
+    static final BaseMapParser TOP_LEVEL = new BaseMapParser(null, false);
+
+    /**
+     * 읽을 최상위 필드의 camelCase 키 목록, null이면 모든 필드
+     */
+    private final Set<String> fields;
+
+    /**
+     * 중첩 객체도 camelCase 키의 BaseMap으로 읽을지 여부
+     */
+    private final boolean nestedBaseMap;
+
+    /**
+     * 주어진 필드 목록으로 BaseMapParser를 생성합니다.
+     *
+     * @param fields        읽을 최상위 필드 목록, null이면 모든 필드
+     * @param nestedBaseMap 중첩 객체도 camelCase 키의 BaseMap으로 읽을지 여부
+     */
+    private BaseMapParser(Collection<String> fields, boolean nestedBaseMap) {
+        this.nestedBaseMap = nestedBaseMap;
+
+        if (fields == null) {
+            this.fields = null;
+        } else {
+            this.fields = new HashSet<>();
+
+            for (String field : fields) {
+                this.fields.add(BaseMapKeys.camelCase(field));
+            }
+        }
+    }
+
+    /**
+     * 주어진 최상위 필드만 읽는 BaseMapParser를 반환합니다.
+     * 필드 이름은 원본 키와 camelCase 키 모두 사용할 수 있습니다.
+     *
+     * @param fields 읽을 최상위 필드 목록
+     * @return BaseMapParser 인스턴스
+     */
+    public static BaseMapParser of(Collection<String> fields) {
+        return new BaseMapParser(fields, true);
+    }
+
+    /**
+     * 주어진 최상위 필드만 읽는 BaseMapParser를 반환합니다.
+     *
+     * @param fields 읽을 최상위 필드 목록
+     * @return BaseMapParser 인스턴스
+     */
+    public static BaseMapParser of(String... fields) {
+        return new BaseMapParser(Arrays.asList(fields), true);
+    }
+
+    /**
+     * JSON 문자열을 BaseMap으로 읽습니다.
+     *
+     * @param json JSON 객체 문자열
+     * @return BaseMap 인스턴스
+     * @throws IllegalArgumentException JSON 객체가 아닌 경우
+     * @throws IllegalStateException    JSON을 읽을 수 없는 경우
+     */
+    public BaseMap parse(String json) {
+        return parse(json, new BaseMap());
+    }
+
+    /**
+     * UTF-8 등으로 인코딩된 JSON 바이트 배열을 BaseMap으로 읽습니다.
+     *
+     * @param json JSON 객체 바이트 배열
+     * @return BaseMap 인스턴스
+     * @throws IllegalArgumentException JSON 객체가 아닌 경우
+     * @throws IllegalStateException    JSON을 읽을 수 없는 경우
+     */
+    public BaseMap parse(byte[] json) {
+        try (JsonParser parser = ObjectMapperUtils.getFactory().createParser(json)) {
+            return read(parser, new BaseMap());
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to parse json", e);
+        }
+    }
+
+    /**
+     * ByteBuffer의 남은 바이트를 BaseMap으로 읽습니다. ByteBuffer의 위치는 변경하지 않습니다.
+     *
+     * @param json JSON 객체가 담긴 ByteBuffer
+     * @return BaseMap 인스턴스
+     * @throws IllegalArgumentException JSON 객체가 아닌 경우
+     * @throws IllegalStateException    JSON을 읽을 수 없는 경우
+     */
+    public BaseMap parse(ByteBuffer json) {
+        if (json.hasArray()) {
+            try (JsonParser parser = ObjectMapperUtils.getFactory()
+                    .createParser(json.array(), json.arrayOffset() + json.position(), json.remaining())) {
+                return read(parser, new BaseMap());
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to parse json", e);
+            }
+        }
+
+        return parse(new ByteBufferBackedInputStream(json.duplicate()));
+    }
+
+    /**
+     * InputStream의 JSON을 BaseMap으로 읽습니다. 스트림은 닫지 않으며, 호출한 쪽에서 관리합니다.
+     *
+     * @param json JSON 객체 입력 스트림
+     * @return BaseMap 인스턴스
+     * @throws IllegalArgumentException JSON 객체가 아닌 경우
+     * @throws IllegalStateException    JSON을 읽을 수 없는 경우
+     */
+    public BaseMap parse(InputStream json) {
+        try (JsonParser parser = ObjectMapperUtils.getFactory().createParser(json)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return read(parser, new BaseMap());
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to parse json", e);
+        }
+    }
+
+    /**
+     * JSON 문자열을 주어진 BaseMap에 읽습니다.
+     *
+     * @param json   JSON 객체 문자열
+     * @param target 값을 채울 BaseMap
+     * @return 값이 채워진 BaseMap
+     */
+    BaseMap parse(String json, BaseMap target) {
+        try (JsonParser parser = ObjectMapperUtils.getFactory().createParser(json)) {
+            return read(parser, target);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to parse json", e);
+        }
+    }
+
+    /**
+     * 최상위 JSON 객체를 읽습니다.
+     *
+     * @param parser JsonParser
+     * @param target 값을 채울 BaseMap
+     * @return 값이 채워진 BaseMap
+     * @throws IOException JSON을 읽을 수 없는 경우
+     */
+    private BaseMap read(JsonParser parser, BaseMap target) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException("JSON must be an object");
+        }
+
+        String name;
+
+        while ((name = parser.nextFieldName()) != null) {
+            JsonToken token = parser.nextToken();
+
+            if (fields != null && !fields.contains(BaseMapKeys.camelCase(name))) {
+                parser.skipChildren();
+                continue;
+            }
+
+            target.put(name, readValue(parser, token));
+        }
+
+        return target;
+    }
+
+    /**
+     * 현재 토큰의 값을 읽습니다.
+     *
+     * @param parser JsonParser
+     * @param token  현재 토큰
+     * @return 읽은 값
+     * @throws IOException JSON을 읽을 수 없는 경우
+     */
+    private Object readValue(JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+            case START_OBJECT:
+                return readObject(parser);
+            case START_ARRAY:
+                return readArray(parser);
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return parser.getNumberValue();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_EMBEDDED_OBJECT:
+                return parser.getEmbeddedObject();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 중첩 JSON 객체를 BaseMap으로 읽습니다. 중첩 객체의 키를 변환하지 않는 파서는 LinkedHashMap으로 읽습니다.
+     *
+     * @param parser JsonParser
+     * @return BaseMap 또는 LinkedHashMap 인스턴스
+     * @throws IOException JSON을 읽을 수 없는 경우
+     */
+    private Map<String, Object> readObject(JsonParser parser) throws IOException {
+        Map<String, Object> map = nestedBaseMap ? new BaseMap() : new LinkedHashMap<>();
+        String name;
+
+        while ((name = parser.nextFieldName()) != null) {
+            map.put(name, readValue(parser, parser.nextToken()));
+        }
+
+        return map;
+    }
+
+    /**
+     * JSON 배열을 리스트로 읽습니다.
+     *
+     * @param parser JsonParser
+     * @return 리스트
+     * @throws IOException JSON을 읽을 수 없는 경우
+     */
+    private List<Object> readArray(JsonParser parser) throws IOException {
+        List<Object> list = new ArrayList<>();
+        JsonToken token;
+
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            list.add(readValue(parser, token));
+        }
+
+        return list;
+    }
+}
@@ -0,0 +1,225 @@
+package io.bareun.base.common.dto.map;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * BaseMapPath 클래스는 {@code "a.b[0].c"} 형식의 경로 표현식을 미리 해석해 둔 경로입니다.
+ * <p>
+ * 경로는 키와 리스트 인덱스의 배열로 한 번만 해석되며, 조회 시에는 깊이만큼만 이동하고 Jackson 변환을 하지 않습니다.
+ * 조회는 읽기 전용이며 맵이나 리스트를 변경하지 않습니다. BaseMap이 아닌 중첩 Map에서 키를 찾지 못하면
+ * {@link BaseMap#getMap(String)}과 같이 camelCase 키로 다시 찾으므로, 경로의 키는 camelCase로 작성합니다.
+ * 생성 이후에는 변경되지 않으므로 여러 스레드에서 공유할 수 있습니다.
+ */
+public class BaseMapPath {
+
+    /**
+     * 해석된 경로 캐시의 최대 크기
+     */
+    private static final int CACHE_SIZE = 1_000;
+
+    /**
+     * 경로 표현식별 해석된 경로 캐시
+     */
+    private static final Map<String, BaseMapPath> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * 경로 표현식
+     */
+    private final String expression;
+
+    /**
+     * 키 세그먼트의 키, 인덱스 세그먼트이면 null
+     */
+    private final String[] keys;
+
+    /**
+     * 인덱스 세그먼트의 인덱스, 키 세그먼트이면 -1
+     */
+    private final int[] indexes;
+
+    /**
+     * 주어진 경로 표현식을 해석하여 BaseMapPath를 생성합니다.
+     *
+     * @param expression 경로 표현식
+     * @throws IllegalArgumentException 경로 표현식이 올바르지 않은 경우
+     */
+    private BaseMapPath(String expression) {
+        List<String> keys = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        int length = expression.length();
+        int start = 0;
+
+        while (start < length) {
+            char c = expression.charAt(start);
+
+            if (c == '[') {
+                int end = expression.indexOf(']', start);
+
+                if (end < 0) {
+                    throw new IllegalArgumentException("Invalid path : " + expression);
+                }
+
+                keys.add(null);
+                indexes.add(parseIndex(expression, start + 1, end));
+                start = end + 1;
+
+                if (start < length && expression.charAt(start) == '.') {
+                    start = skipDot(expression, start);
+                }
+            } else {
+                int end = start;
+
+                while (end < length && expression.charAt(end) != '.' && expression.charAt(end) != '[') {
+                    end++;
+                }
+
+                if (end == start) {
+                    throw new IllegalArgumentException("Invalid path : " + expression);
+                }
+
+                keys.add(expression.substring(start, end));
+                indexes.add(-1);
+                start = end < length && expression.charAt(end) == '.' ? skipDot(expression, end) : end;
+            }
+        }
+
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("Invalid path : " + expression);
+        }
+
+        this.expression = expression;
+        this.keys = keys.toArray(new String[0]);
+        this.indexes = new int[indexes.size()];
+
+        for (int a = 0; a < this.indexes.length; a++) {
+            this.indexes[a] = indexes.get(a);
+        }
+    }
+
+    /**
+     * 경로 표현식을 해석한 BaseMapPath를 반환합니다. 해석된 경로는 캐시됩니다.
+     *
+     * @param expression 경로 표현식 (예: "a.b[0].c")
+     * @return BaseMapPath 인스턴스
+     * @throws IllegalArgumentException 경로 표현식이 올바르지 않은 경우
+     */
+    public static BaseMapPath compile(String expression) {
+        BaseMapPath path = CACHE.get(expression);
+
+        if (path == null) {
+            path = new BaseMapPath(expression);
+
+            if (CACHE.size() >= CACHE_SIZE) {
+                CACHE.clear();
+            }
+
+            CACHE.put(expression, path);
+        }
+
+        return path;
+    }
+
+    /**
+     * 주어진 객체에서 경로에 해당하는 값을 반환합니다.
+     * 경로 중간에 값이 없거나, Map이나 리스트가 아니거나, 인덱스가 범위를 벗어나면 null을 반환합니다.
+     *
+     * @param root 경로를 찾을 시작 객체
+     * @return 경로에 해당하는 값
+     */
+    public Object resolve(Object root) {
+        Object current = root;
+
+        for (int a = 0; a < keys.length && current != null; a++) {
+            current = keys[a] != null ? getValue(current, keys[a]) : getValue(current, indexes[a]);
+        }
+
+        return current;
+    }
+
+    /**
+     * 객체에서 키에 해당하는 값을 반환합니다.
+     * BaseMap이 아닌 Map에 키가 없으면 camelCase 키로 바꾼 BaseMap에서 다시 찾습니다.
+     *
+     * @param current 현재 객체
+     * @param key     키
+     * @return 키에 해당하는 값
+     */
+    private static Object getValue(Object current, String key) {
+        if (current instanceof BaseMap) {
+            return ((BaseMap) current).get(key);
+        } else if (current instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) current;
+            Object value = map.get(key);
+
+            return value != null || map.containsKey(key) ? value : BaseMap.nested(map).get(key);
+        }
+
+        return null;
+    }
+
+    /**
+     * 리스트나 배열에서 인덱스에 해당하는 값을 반환합니다.
+     *
+     * @param current 현재 객체
+     * @param index   인덱스
+     * @return 인덱스에 해당하는 값
+     */
+    private static Object getValue(Object current, int index) {
+        if (current instanceof List) {
+            List<?> list = (List<?>) current;
+            return index < list.size() ? list.get(index) : null;
+        } else if (current instanceof Object[]) {
+            Object[] array = (Object[]) current;
+            return index < array.length ? array[index] : null;
+        }
+
+        return null;
+    }
+
+    /**
+     * 인덱스 문자열을 해석합니다.
+     *
+     * @param expression 경로 표현식
+     * @param start      인덱스 시작 위치
+     * @param end        인덱스 끝 위치
+     * @return 인덱스
+     * @throws IllegalArgumentException 인덱스가 0 이상의 정수가 아닌 경우
+     */
+    private static int parseIndex(String expression, int start, int end) {
+        try {
+            int index = Integer.parseInt(expression.substring(start, end));
+
+            if (index < 0) {
+                throw new IllegalArgumentException("Invalid path : " + expression);
+            }
+
+            return index;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid path : " + expression, e);
+        }
+    }
+
+    /**
+     * 구분자(.) 다음 위치를 반환합니다. 구분자로 끝나는 경로는 올바르지 않습니다.
+     *
+     * @param expression 경로 표현식
+     * @param dot        구분자 위치
+     * @return 구분자 다음 위치
+     * @throws IllegalArgumentException 구분자로 끝나는 경우
+     */
+    private static int skipDot(String expression, int dot) {
+        if (dot + 1 >= expression.length()) {
+            throw new IllegalArgumentException("Invalid path : " + expression);
+        }
+
+        return dot + 1;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
@@ -0,0 +1,118 @@
+package io.bareun.base.common.dto.map;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * BaseMapShape 클래스는 같은 키 구성을 가진 행들이 공유하는 키 변환 결과를 보관합니다.
+ * <p>
+ * DB 조회 결과처럼 모든 행의 키가 같은 경우, 첫 행의 키를 한 번만 camelCase로 변환해 두고
+ * 나머지 행은 {@link BaseMap#putAll(Map, BaseMapShape)}로 변환 없이 바로 추가합니다.
+ * 변환된 키마다 슬롯 번호를 부여하므로, {@link CompactBaseMap}은 값을 배열에 보관하고 키 정보는 행끼리 공유합니다.
+ * 생성 이후에는 변경되지 않으므로 여러 스레드에서 공유할 수 있습니다.
+ */
+public class BaseMapShape {
+
+    /**
+     * 원본 키별 변환된 키
+     */
+    private final Map<String, String> keys;
+
+    /**
+     * 변환된 키별 슬롯 번호
+     */
+    private final Map<String, Integer> slots;
+
+    /**
+     * 슬롯 번호 순서의 변환된 키
+     */
+    private final String[] names;
+
+    /**
+     * 주어진 키 목록으로 BaseMapShape를 생성합니다.
+     *
+     * @param keys 원본 키 목록
+     */
+    private BaseMapShape(Collection<? extends String> keys) {
+        this.keys = new HashMap<>(keys.size() * 4 / 3 + 1);
+        this.slots = new HashMap<>(keys.size() * 4 / 3 + 1);
+
+        for (String key : keys) {
+            String camelCase = BaseMapKeys.camelCase(key);
+
+            this.keys.put(key, camelCase);
+
+            if (!slots.containsKey(camelCase)) {
+                slots.put(camelCase, slots.size());
+            }
+        }
+
+        this.names = new String[slots.size()];
+
+        for (Map.Entry<String, Integer> entry : slots.entrySet()) {
+            names[entry.getValue()] = entry.getKey();
+        }
+    }
+
+    /**
+     * 주어진 키 목록으로 BaseMapShape를 생성하여 반환합니다.
+     *
+     * @param keys 원본 키 목록
+     * @return BaseMapShape 인스턴스
+     */
+    public static BaseMapShape of(Collection<? extends String> keys) {
+        return new BaseMapShape(keys);
+    }
+
+    /**
+     * 주어진 맵의 키 구성으로 BaseMapShape를 생성하여 반환합니다.
+     *
+     * @param map 키 구성을 가져올 맵
+     * @return BaseMapShape 인스턴스
+     */
+    public static BaseMapShape of(Map<? extends String, ?> map) {
+        return new BaseMapShape(map.keySet());
+    }
+
+    /**
+     * 원본 키의 변환된 키를 반환합니다. 이 구성에 없는 키는 바로 변환합니다.
+     *
+     * @param key 원본 키
+     * @return camelCase 형식의 키
+     */
+    public String camelCase(String key) {
+        String camelCase = keys.get(key);
+        return camelCase != null ? camelCase : BaseMapKeys.camelCase(key);
+    }
+
+    /**
+     * 변환된 키의 슬롯 번호를 반환합니다.
+     *
+     * @param name camelCase 형식의 키
+     * @return 슬롯 번호, 이 구성에 없는 키이면 -1
+     */
+    public int slot(Object name) {
+        Integer slot = slots.get(name);
+        return slot != null ? slot : -1;
+    }
+
+    /**
+     * 슬롯 번호에 해당하는 변환된 키를 반환합니다.
+     *
+     * @param slot 슬롯 번호
+     * @return camelCase 형식의 키
+     */
+    public String name(int slot) {
+        return names[slot];
+    }
+
+    /**
+     * 변환된 키의 개수, 즉 슬롯 개수를 반환합니다.
+     *
+     * @return 슬롯 개수
+     */
+    public int size() {
+        return names.length;
+    }
+}
@@ -0,0 +1,275 @@
+package io.bareun.base.common.dto.map;
+
+/**
+ * BaseMapValues 클래스는 {@link BaseMap}의 기본형 조회 메서드에서 사용하는 문자열 파싱 기능을 제공합니다.
+ * <p>
+ * {@link java.text.NumberFormat}이나 중간 객체 없이 문자열을 직접 파싱합니다.
+ * 앞뒤 공백은 무시하고 정수부의 세 자리 구분 쉼표(,)는 허용하며, 쉼표의 위치가 올바르지 않는 등 파싱할 수 없으면
+ * {@link NumberFormatException}을 발생시킵니다.
+ */
+class BaseMapValues {
+
+    /**
+     * double로 정확하게 표현할 수 있는 최대 가수 값 (2^53)
+     */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    /**
+     * double로 정확하게 표현할 수 있는 10의 거듭제곱
+     */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * 문자열을 long 값으로 변환합니다.
+     * <p>
+     * 정수부는 세 자리마다 쉼표(,)로 구분할 수 있으며, 소수부는 0으로만 이루어진 경우에만 허용합니다.
+     *
+     * @param text 변환할 문자열
+     * @return 변환된 long 값
+     * @throws NumberFormatException 숫자 형식이 아니거나, 정수가 아니거나, 범위를 벗어난 경우
+     */
+    static long parseLong(String text) {
+        int start = start(text);
+        int end = end(text, start);
+
+        if (start == end) {
+            throw new NumberFormatException("Empty number : " + text);
+        }
+
+        boolean negative = false;
+        char first = text.charAt(start);
+
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            start++;
+        }
+
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyLimit = limit / 10;
+        long result = 0;
+        int digits = 0;
+        int group = -1;
+
+        for (int a = start; a < end; a++) {
+            char c = text.charAt(a);
+
+            if (c >= '0' && c <= '9') {
+                int value = c - '0';
+
+                if (result < multiplyLimit || result * 10 < limit + value) {
+                    throw new NumberFormatException("Out of range : " + text);
+                }
+
+                result = result * 10 - value;
+                digits++;
+
+                if (group >= 0) {
+                    group++;
+                }
+            } else if (c == ',') {
+                group = checkSeparator(text, digits, group);
+            } else if (c == '.' && digits > 0) {
+                checkGroup(text, group);
+                checkZeros(text, a + 1, end);
+                return negative ? result : -result;
+            } else {
+                throw new NumberFormatException("Invalid number : " + text);
+            }
+        }
+
+        if (digits == 0) {
+            throw new NumberFormatException("Invalid number : " + text);
+        }
+
+        checkGroup(text, group);
+        return negative ? result : -result;
+    }
+
+    /**
+     * 문자열을 double 값으로 변환합니다. 정수부는 세 자리마다 쉼표(,)로 구분할 수 있습니다.
+     * <p>
+     * 가수가 2^53 이하이고 소수 자릿수가 22 이하인 일반적인 십진수는 직접 계산하며,
+     * 지수 표기 등 그 외의 형식은 {@link Double#parseDouble(String)}을 사용합니다.
+     *
+     * @param text 변환할 문자열
+     * @return 변환된 double 값
+     * @throws NumberFormatException 숫자 형식이 아닌 경우
+     */
+    static double parseDouble(String text) {
+        int start = start(text);
+        int end = end(text, start);
+
+        if (start == end) {
+            throw new NumberFormatException("Empty number : " + text);
+        }
+
+        boolean negative = false;
+        char first = text.charAt(start);
+
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            start++;
+        }
+
+        long mantissa = 0;
+        int scale = 0;
+        int digits = 0;
+        int group = -1;
+        boolean digit = false;
+        boolean fraction = false;
+        boolean exact = true;
+
+        for (int a = start; a < end; a++) {
+            char c = text.charAt(a);
+
+            if (c >= '0' && c <= '9') {
+                digit = true;
+
+                if (exact) {
+                    mantissa = mantissa * 10 + (c - '0');
+
+                    if (fraction) {
+                        scale++;
+                    }
+
+                    exact = mantissa <= MAX_EXACT_MANTISSA && scale < POWERS_OF_TEN.length;
+                }
+
+                if (!fraction) {
+                    digits++;
+
+                    if (group >= 0) {
+                        group++;
+                    }
+                }
+            } else if (c == ',' && !fraction) {
+                group = checkSeparator(text, digits, group);
+            } else if (c == '.' && !fraction) {
+                checkGroup(text, group);
+                fraction = true;
+            } else if (group < 0) {
+                return Double.parseDouble(text.trim());
+            } else {
+                throw new NumberFormatException("Invalid number : " + text);
+            }
+        }
+
+        if (!digit) {
+            throw new NumberFormatException("Invalid number : " + text);
+        }
+
+        if (!fraction) {
+            checkGroup(text, group);
+        }
+
+        if (!exact) {
+            return Double.parseDouble(text.trim().replace(",", ""));
+        }
+
+        double value = scale == 0 ? mantissa : mantissa / POWERS_OF_TEN[scale];
+        return negative ? -value : value;
+    }
+
+    /**
+     * 문자열을 boolean 값으로 변환합니다. 대소문자를 구분하지 않고 "true", "false"만 허용합니다.
+     *
+     * @param text 변환할 문자열
+     * @return 변환된 boolean 값
+     * @throws IllegalArgumentException boolean 형식이 아닌 경우
+     */
+    static boolean parseBoolean(String text) {
+        int start = start(text);
+        int end = end(text, start);
+        int length = end - start;
+
+        if (length == 4 && text.regionMatches(true, start, "true", 0, 4)) {
+            return true;
+        } else if (length == 5 && text.regionMatches(true, start, "false", 0, 5)) {
+            return false;
+        }
+
+        throw new IllegalArgumentException("Invalid boolean : " + text);
+    }
+
+    /**
+     * 정수부의 쉼표 위치를 확인합니다. 첫 구간은 1 ~ 3자리, 이후 구간은 3자리여야 합니다.
+     *
+     * @param text   확인할 문자열
+     * @param digits 지금까지의 정수부 숫자 개수
+     * @param group  직전 쉼표 이후의 숫자 개수, 쉼표가 없었으면 -1
+     * @return 새 구간의 숫자 개수 (0)
+     * @throws NumberFormatException 쉼표의 위치가 올바르지 않은 경우
+     */
+    private static int checkSeparator(String text, int digits, int group) {
+        if (digits == 0 || (group < 0 ? digits > 3 : group != 3)) {
+            throw new NumberFormatException("Invalid grouping : " + text);
+        }
+
+        return 0;
+    }
+
+    /**
+     * 마지막 쉼표 이후의 구간이 3자리인지 확인합니다.
+     *
+     * @param text  확인할 문자열
+     * @param group 마지막 쉼표 이후의 숫자 개수, 쉼표가 없었으면 -1
+     * @throws NumberFormatException 마지막 구간이 3자리가 아닌 경우
+     */
+    private static void checkGroup(String text, int group) {
+        if (group >= 0 && group != 3) {
+            throw new NumberFormatException("Invalid grouping : " + text);
+        }
+    }
+
+    /**
+     * 주어진 구간이 모두 0인지 확인합니다.
+     *
+     * @param text  확인할 문자열
+     * @param start 시작 위치
+     * @param end   끝 위치
+     * @throws NumberFormatException 0이 아닌 문자가 있는 경우
+     */
+    private static void checkZeros(String text, int start, int end) {
+        for (int a = start; a < end; a++) {
+            if (text.charAt(a) != '0') {
+                throw new NumberFormatException("Not an integer : " + text);
+            }
+        }
+    }
+
+    /**
+     * 앞쪽 공백을 건너뛴 시작 위치를 반환합니다.
+     *
+     * @param text 문자열
+     * @return 시작 위치
+     */
+    private static int start(String text) {
+        int start = 0;
+
+        while (start < text.length() && text.charAt(start) <= ' ') {
+            start++;
+        }
+
+        return start;
+    }
+
+    /**
+     * 뒤쪽 공백을 제외한 끝 위치를 반환합니다.
+     *
+     * @param text  문자열
+     * @param start 시작 위치
+     * @return 끝 위치
+     */
+    private static int end(String text, int start) {
+        int end = text.length();
+
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        return end;
+    }
+}
@@ -0,0 +1,590 @@
+package io.bareun.base.common.dto.map;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 같은 키 구성을 가진 행을 적은 메모리로 보관하는 BaseMap 클래스입니다.
+ * <p>
+ * 키와 슬롯 번호는 행끼리 공유하는 {@link BaseMapShape}에 두고, 값은 슬롯 순서의 {@code Object[]}에만 보관합니다.
+ * 행마다 해시 테이블과 항목 객체를 만들지 않으므로 대량의 조회 결과를 메모리에 보관할 때 힙 사용량이 크게 줄어듭니다.
+ * 구성에 없는 키를 추가하면 상위 HashMap에 보관하므로 {@link Map} 계약과 BaseMap의 조회 메서드는 그대로 동작합니다.
+ * <p>
+ * 직렬화 시에는 일반 BaseMap으로 변환됩니다.
+ */
+public class CompactBaseMap extends BaseMap {
+
+    /**
+     * 값이 없는 슬롯을 나타내는 표식 (null 값과 구분)
+     */
+    private static final Object ABSENT = new Object();
+
+    /**
+     * 행끼리 공유하는 키 구성
+     */
+    private final BaseMapShape shape;
+
+    /**
+     * 슬롯 순서의 값 배열
+     */
+    private final Object[] values;
+
+    /**
+     * 값이 있는 슬롯의 개수
+     */
+    private int count;
+
+    /**
+     * 주어진 키 구성으로 빈 맵을 생성합니다.
+     *
+     * @param shape 행끼리 공유하는 키 구성
+     */
+    public CompactBaseMap(BaseMapShape shape) {
+        super();
+        this.shape = shape;
+        this.values = new Object[shape.size()];
+
+        Arrays.fill(values, ABSENT);
+    }
+
+    /**
+     * 주어진 키 구성과 맵으로 초기화합니다.
+     *
+     * @param shape 행끼리 공유하는 키 구성
+     * @param map   초기화에 사용할 맵
+     */
+    public CompactBaseMap(BaseMapShape shape, Map<String, ?> map) {
+        this(shape);
+        putAll(map, shape);
+    }
+
+    /**
+     * 같은 키 구성을 가진 맵 목록을 CompactBaseMap 목록으로 변환합니다.
+     * 첫 번째 맵의 키 구성을 모든 행이 공유합니다.
+     *
+     * @param maps 변환할 맵 목록
+     * @return BaseMap 목록
+     */
+    public static List<BaseMap> ofList(List<? extends Map<String, ?>> maps) {
+        List<BaseMap> list = new ArrayList<>(maps.size());
+        BaseMapShape shape = null;
+
+        for (Map<String, ?> map : maps) {
+            if (shape == null) {
+                shape = BaseMapShape.of(map);
+            }
+
+            list.add(new CompactBaseMap(shape, map));
+        }
+
+        return list;
+    }
+
+    /**
+     * 이 맵의 키 구성을 반환합니다.
+     *
+     * @return 키 구성
+     */
+    public BaseMapShape getShape() {
+        return shape;
+    }
+
+    @Override
+    public int size() {
+        return count + super.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int slot = shape.slot(key);
+
+        if (slot < 0) {
+            return super.get(key);
+        }
+
+        Object value = values[slot];
+        return value != ABSENT ? value : null;
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        int slot = shape.slot(key);
+
+        if (slot < 0) {
+            return super.getOrDefault(key, defaultValue);
+        }
+
+        Object value = values[slot];
+        return value != ABSENT ? value : defaultValue;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        int slot = shape.slot(key);
+        return slot < 0 ? super.containsKey(key) : values[slot] != ABSENT;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (Object slotValue : values) {
+            if (slotValue != ABSENT && Objects.equals(slotValue, value)) {
+                return true;
+            }
+        }
+
+        return super.containsValue(value);
+    }
+
+    /**
+     * 주어진 키를 camelCase 형식으로 변환하여 값을 추가합니다.
+     * 키 구성에 있는 키는 슬롯에, 없는 키는 상위 HashMap에 보관합니다.
+     *
+     * @param key   추가할 키
+     * @param value 추가할 값
+     * @return 이전에 연결된 값
+     */
+    @Override
+    public Object put(String key, Object value) {
+        return putName(BaseMapKeys.camelCase(key), value);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> map, BaseMapShape shape) {
+        for (Map.Entry<? extends String, ?> entry : map.entrySet()) {
+            putName(shape.camelCase(entry.getKey()), entry.getValue());
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        int slot = shape.slot(key);
+
+        if (slot < 0) {
+            return super.remove(key);
+        }
+
+        Object value = values[slot];
+
+        if (value == ABSENT) {
+            return null;
+        }
+
+        values[slot] = ABSENT;
+        count--;
+
+        return value;
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        if (containsKey(key) && Objects.equals(get(key), value)) {
+            remove(key);
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(values, ABSENT);
+        count = 0;
+        super.clear();
+    }
+
+    @Override
+    public Object putIfAbsent(String key, Object value) {
+        Object current = get(BaseMapKeys.camelCase(key));
+        return current == null ? put(key, value) : current;
+    }
+
+    @Override
+    public boolean replace(String key, Object oldValue, Object newValue) {
+        String name = BaseMapKeys.camelCase(key);
+
+        if (containsKey(name) && Objects.equals(get(name), oldValue)) {
+            putName(name, newValue);
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public Object replace(String key, Object value) {
+        String name = BaseMapKeys.camelCase(key);
+        return containsKey(name) ? putName(name, value) : null;
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super String, ? super Object, ?> function) {
+        for (int a = 0; a < values.length; a++) {
+            if (values[a] != ABSENT) {
+                values[a] = function.apply(shape.name(a), values[a]);
+            }
+        }
+
+        super.replaceAll(function);
+    }
+
+    @Override
+    public Object computeIfAbsent(String key, Function<? super String, ?> mappingFunction) {
+        String name = BaseMapKeys.camelCase(key);
+        Object current = get(name);
+
+        if (current == null) {
+            Object value = mappingFunction.apply(name);
+
+            if (value != null) {
+                putName(name, value);
+            }
+
+            return value;
+        }
+
+        return current;
+    }
+
+    @Override
+    public Object computeIfPresent(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        String name = BaseMapKeys.camelCase(key);
+        Object current = get(name);
+
+        if (current == null) {
+            return null;
+        }
+
+        Object value = remappingFunction.apply(name, current);
+
+        if (value == null) {
+            remove(name);
+        } else {
+            putName(name, value);
+        }
+
+        return value;
+    }
+
+    @Override
+    public Object compute(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        String name = BaseMapKeys.camelCase(key);
+        Object value = remappingFunction.apply(name, get(name));
+
+        if (value == null) {
+            remove(name);
+        } else {
+            putName(name, value);
+        }
+
+        return value;
+    }
+
+    @Override
+    public Object merge(String key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+        String name = BaseMapKeys.camelCase(key);
+        Object current = get(name);
+        Object merged = current == null ? value : remappingFunction.apply(current, value);
+
+        if (merged == null) {
+            remove(name);
+        } else {
+            putName(name, merged);
+        }
+
+        return merged;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        for (int a = 0; a < values.length; a++) {
+            if (values[a] != ABSENT) {
+                action.accept(shape.name(a), values[a]);
+            }
+        }
+
+        super.forEach(action);
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        return new EntrySet();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return new AbstractSet<String>() {
+            @Override
+            public Iterator<String> iterator() {
+                Iterator<Map.Entry<String, Object>> iterator = new EntryIterator();
+
+                return new Iterator<String>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public String next() {
+                        return iterator.next().getKey();
+                    }
+
+                    @Override
+                    public void remove() {
+                        iterator.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return CompactBaseMap.this.size();
+            }
+
+            @Override
+            public boolean contains(Object key) {
+                return containsKey(key);
+            }
+        };
+    }
+
+    @Override
+    public Collection<Object> values() {
+        return new AbstractCollection<Object>() {
+            @Override
+            public Iterator<Object> iterator() {
+                Iterator<Map.Entry<String, Object>> iterator = new EntryIterator();
+
+                return new Iterator<Object>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Object next() {
+                        return iterator.next().getValue();
+                    }
+
+                    @Override
+                    public void remove() {
+                        iterator.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return CompactBaseMap.this.size();
+            }
+        };
+    }
+
+    /**
+     * 같은 키 구성과 값을 가진 새 CompactBaseMap을 반환합니다.
+     *
+     * @return 복사된 CompactBaseMap
+     */
+    @Override
+    public Object clone() {
+        CompactBaseMap copy = new CompactBaseMap(shape);
+        copy.putAll(this);
+
+        return copy;
+    }
+
+    /**
+     * 변환된 키로 값을 추가합니다.
+     *
+     * @param name  camelCase 형식의 키
+     * @param value 추가할 값
+     * @return 이전에 연결된 값
+     */
+    private Object putName(String name, Object value) {
+        int slot = shape.slot(name);
+
+        if (slot < 0) {
+            return super.put(name, value);
+        }
+
+        Object previous = values[slot];
+        values[slot] = value;
+
+        if (previous == ABSENT) {
+            count++;
+            return null;
+        }
+
+        return previous;
+    }
+
+    /**
+     * 직렬화 시 일반 BaseMap으로 변환합니다.
+     *
+     * @return 같은 항목을 가진 BaseMap
+     */
+    private Object writeReplace() {
+        return new BaseMap(this);
+    }
+
+    /**
+     * 상위 HashMap의 항목 Iterator를 반환합니다.
+     *
+     * @return 구성에 없는 키의 항목 Iterator
+     */
+    private Iterator<Map.Entry<String, Object>> spilledIterator() {
+        return super.entrySet().iterator();
+    }
+
+    /**
+     * EntrySet 클래스는 슬롯의 항목과 상위 HashMap의 항목을 순서대로 보여주는 뷰입니다.
+     */
+    private class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return CompactBaseMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            CompactBaseMap.this.clear();
+        }
+    }
+
+    /**
+     * EntryIterator 클래스는 값이 있는 슬롯을 먼저 순회한 뒤 상위 HashMap의 항목을 순회합니다.
+     */
+    private class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+
+        /**
+         * 다음에 반환할 슬롯 번호
+         */
+        private int next = advance(0);
+
+        /**
+         * 마지막으로 반환한 슬롯 번호, 없으면 -1
+         */
+        private int last = -1;
+
+        /**
+         * 상위 HashMap의 항목 Iterator
+         */
+        private Iterator<Map.Entry<String, Object>> spilled;
+
+        @Override
+        public boolean hasNext() {
+            if (next < values.length) {
+                return true;
+            }
+
+            if (spilled == null) {
+                spilled = spilledIterator();
+            }
+
+            return spilled.hasNext();
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (next < values.length) {
+                last = next;
+                next = advance(next + 1);
+
+                return new SlotEntry(last);
+            }
+
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            last = -1;
+            return spilled.next();
+        }
+
+        @Override
+        public void remove() {
+            if (spilled != null && last < 0) {
+                spilled.remove();
+                return;
+            }
+
+            if (last < 0 || values[last] == ABSENT) {
+                throw new IllegalStateException();
+            }
+
+            values[last] = ABSENT;
+            count--;
+            last = -1;
+        }
+
+        /**
+         * 주어진 위치부터 값이 있는 다음 슬롯을 찾습니다.
+         *
+         * @param from 시작 슬롯 번호
+         * @return 값이 있는 슬롯 번호, 없으면 슬롯 개수
+         */
+        private int advance(int from) {
+            int slot = from;
+
+            while (slot < values.length && values[slot] == ABSENT) {
+                slot++;
+            }
+
+            return slot;
+        }
+    }
+
+    /**
+     * SlotEntry 클래스는 슬롯 하나를 가리키는 항목입니다. setValue는 맵의 값을 변경합니다.
+     * HashMap의 항목처럼, 맵에서 제거된 뒤에는 맵과 분리되어 setValue가 맵에 반영되지 않습니다.
+     */
+    private class SlotEntry extends AbstractMap.SimpleEntry<String, Object> {
+
+        /**
+         * 항목이 가리키는 슬롯 번호
+         */
+        private final int slot;
+
+        SlotEntry(int slot) {
+            super(shape.name(slot), values[slot]);
+            this.slot = slot;
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            if (values[slot] == ABSENT) {
+                return super.setValue(value);
+            }
+
+            super.setValue(value);
+
+            Object previous = values[slot];
+            values[slot] = value;
+
+            return previous;
+        }
+    }
+}
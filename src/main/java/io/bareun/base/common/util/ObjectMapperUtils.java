@@ -1,63 +1,314 @@
 package io.bareun.base.common.util;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * ObjectMapperUtils는 JSON 객체를 변환하기 위한 유틸리티 클래스입니다.
  * <p>
  * 이 클래스는 Jackson 라이브러리를 사용하여 JSON 객체를 Java 객체나 리스트로 변환하는 기능을 제공합니다.
+ * 대상 타입별 {@link JavaType}과 {@link ObjectReader}는 한 번만 생성되어 {@link ClassValue}에 캐싱되며,
+ * 객체 변환은 캐싱된 ObjectWriter와 ObjectReader로 {@link TokenBuffer}를 거쳐 바로 매핑됩니다.
+ * <p>
+ * 클래스패스에 jackson-module-blackbird 또는 jackson-module-afterburner가 있으면 자동으로 등록하여
+ * 리플렉션 대신 생성된 접근자로 필드를 읽고 씁니다.
  */
 @Slf4j
 @Component
 public class ObjectMapperUtils {
 
-    private static final ObjectMapper mapper = new ObjectMapper();
+    /**
+     * 자동으로 등록할 접근자 모듈 클래스 (우선순위 순)
+     */
+    private static final String[] ACCESSOR_MODULES = {
+            "com.fasterxml.jackson.module.blackbird.BlackbirdModule",
+            "com.fasterxml.jackson.module.afterburner.AfterburnerModule"
+    };
+
+    /**
+     * 공유 ObjectMapper (접근자 모듈이 있으면 등록)
+     */
+    private static final ObjectMapper mapper = createMapper();
+
+    /**
+     * 변환 없이 그대로 반환해도 되는 불변 타입
+     */
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class,
+            Long.class, Float.class, Double.class, BigDecimal.class, BigInteger.class));
+
+    /**
+     * 공유 ObjectWriter
+     */
+    private static final ObjectWriter writer = mapper.writer();
+
+    /**
+     * Object 타입으로 읽는 공유 ObjectReader
+     */
+    private static final ObjectReader objectReader = mapper.readerFor(Object.class);
+
+    /**
+     * 클래스별 JavaType 캐시
+     */
+    private static final ClassValue<JavaType> TYPES = new ClassValue<JavaType>() {
+        @Override
+        protected JavaType computeValue(Class<?> type) {
+            return mapper.constructType(type);
+        }
+    };
 
     /**
-     * 주어진 JSON 문자열을 지정된 타입의 Java 객체로 변환합니다.
+     * 클래스별 ObjectReader 캐시
+     */
+    private static final ClassValue<ObjectReader> READERS = new ClassValue<ObjectReader>() {
+        @Override
+        protected ObjectReader computeValue(Class<?> type) {
+            return mapper.readerFor(TYPES.get(type));
+        }
+    };
+
+    /**
+     * 요소 클래스별 List ObjectReader 캐시
+     */
+    private static final ClassValue<ObjectReader> LIST_READERS = new ClassValue<ObjectReader>() {
+        @Override
+        protected ObjectReader computeValue(Class<?> type) {
+            return mapper.readerFor(mapper.getTypeFactory().constructCollectionType(List.class, type));
+        }
+    };
+
+    /**
+     * 제네릭 타입 캐시의 최대 크기
+     */
+    private static final int GENERIC_CACHE_SIZE = 1_000;
+
+    /**
+     * TypeReference의 제네릭 타입별 JavaType 캐시
+     */
+    private static final Cache<Type, JavaType> GENERIC_TYPES = Caffeine.newBuilder()
+            .maximumSize(GENERIC_CACHE_SIZE)
+            .build();
+
+    /**
+     * 제네릭 JavaType별 ObjectReader 캐시
+     */
+    private static final Cache<JavaType, ObjectReader> GENERIC_READERS = Caffeine.newBuilder()
+            .maximumSize(GENERIC_CACHE_SIZE)
+            .build();
+
+    /**
+     * 공유 ObjectMapper의 JsonFactory를 반환합니다.
+     * 트리 없이 스트리밍 방식으로 JSON을 읽고 쓸 때 사용합니다.
+     *
+     * @return JsonFactory 인스턴스
+     */
+    public static JsonFactory getFactory() {
+        return mapper.getFactory();
+    }
+
+    /**
+     * 주어진 클래스 타입의 캐싱된 ObjectReader를 반환합니다.
+     *
+     * @param type 읽을 클래스 타입
+     * @return ObjectReader 인스턴스
+     */
+    public static ObjectReader getReader(Class<?> type) {
+        return READERS.get(type);
+    }
+
+    /**
+     * 주어진 JavaType의 캐싱된 ObjectReader를 반환합니다.
+     *
+     * @param type 읽을 JavaType
+     * @return ObjectReader 인스턴스
+     */
+    public static ObjectReader getReader(JavaType type) {
+        if (!type.hasGenericTypes() && !type.isContainerType()) {
+            return READERS.get(type.getRawClass());
+        }
+
+        return GENERIC_READERS.get(type, mapper::readerFor);
+    }
+
+    /**
+     * 주어진 클래스를 역직렬화할 때의 프로퍼티 정보를 반환합니다.
+     * {@code @JsonProperty}, {@code @JsonAlias}, {@code @JsonIgnore} 등 Jackson 설정이 반영됩니다.
+     *
+     * @param type 대상 클래스
+     * @return 프로퍼티 정보
+     */
+    public static BeanDescription getBeanDescription(Class<?> type) {
+        return mapper.getDeserializationConfig().introspect(TYPES.get(type));
+    }
+
+    /**
+     * TypeReference에 해당하는 캐싱된 JavaType을 반환합니다.
+     *
+     * @param typeReference 제네릭 타입 정보
+     * @return JavaType 인스턴스
+     */
+    public static JavaType getType(TypeReference<?> typeReference) {
+        return GENERIC_TYPES.get(typeReference.getType(), type -> mapper.getTypeFactory().constructType(type));
+    }
+
+    /**
+     * 공유 ObjectWriter를 반환합니다.
+     *
+     * @return ObjectWriter 인스턴스
+     */
+    public static ObjectWriter getWriter() {
+        return writer;
+    }
+
+    /**
+     * 주어진 JSON 문자열을 Java 객체로 변환합니다.
+     * 타입 정보가 없으므로 JSON 객체는 LinkedHashMap, 배열은 ArrayList로 변환됩니다.
+     * 특정 타입으로 변환하려면 타입을 지정하는 메서드를 사용합니다.
      *
      * @param json 변환할 JSON 문자열
      * @param <T>  변환할 타겟 객체의 타입
      * @return 변환된 Java 객체
      * @throws RuntimeException JSON 처리 중 오류가 발생한 경우
      */
+    @SuppressWarnings("unchecked")
     public static <T> T convert(String json) {
-        try {
-            return mapper.readValue(json, new TypeReference<T>() {
-            });
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
-        }
+        return (T) read(json, objectReader);
+    }
+
+    /**
+     * 주어진 JSON 문자열을 지정된 클래스 타입의 객체로 변환합니다.
+     *
+     * @param json JSON 문자열
+     * @param type 변환할 클래스 타입
+     * @param <T>  변환할 타겟 클래스의 타입
+     * @return 변환된 객체
+     * @throws RuntimeException JSON 처리 중 오류가 발생한 경우
+     */
+    public static <T> T convert(String json, Class<T> type) {
+        return read(json, READERS.get(type));
+    }
+
+    /**
+     * 주어진 JSON 문자열을 TypeReference의 제네릭 타입 객체로 변환합니다.
+     *
+     * @param json          JSON 문자열
+     * @param typeReference 변환할 제네릭 타입 정보 (예: {@code new TypeReference<List<BaseMap>>() {}})
+     * @param <T>           변환할 타겟 타입
+     * @return 변환된 객체
+     * @throws RuntimeException JSON 처리 중 오류가 발생한 경우
+     */
+    public static <T> T convert(String json, TypeReference<T> typeReference) {
+        return read(json, getReader(getType(typeReference)));
+    }
+
+    /**
+     * 주어진 JSON 문자열을 JavaType의 객체로 변환합니다.
+     *
+     * @param json JSON 문자열
+     * @param type 변환할 JavaType
+     * @param <T>  변환할 타겟 타입
+     * @return 변환된 객체
+     * @throws RuntimeException JSON 처리 중 오류가 발생한 경우
+     */
+    public static <T> T convert(String json, JavaType type) {
+        return read(json, getReader(type));
     }
 
     /**
      * 주어진 JSON 객체를 Map으로 변환합니다.
+     * 타입 정보가 없으므로 객체는 LinkedHashMap, 배열은 ArrayList로 변환됩니다.
      *
      * @param object 변환할 JSON 객체
      * @param <T>    변환할 타겟 클래스의 타입
      * @return 변환된 Map 객체
      */
     public static <T> T convert(Object object) {
-        return mapper.convertValue(object, new TypeReference<T>() {
-        });
+        return convert(object, objectReader);
     }
 
     /**
      * 주어진 JSON 객체를 지정된 클래스 타입의 객체로 변환합니다.
+     * 객체가 이미 해당 클래스의 불변 타입(문자열, 기본형 래퍼, BigDecimal, BigInteger, enum) 인스턴스이면 그대로 반환하고,
+     * 그 외에는 항상 새 객체를 생성합니다.
      *
      * @param object 변환할 JSON 객체
      * @param type   변환할 클래스 타입
      * @param <T>    변환할 타겟 클래스의 타입
      * @return 변환된 객체
      */
+    @SuppressWarnings("unchecked")
     public static <T> T convert(Object object, Class<T> type) {
-        return mapper.convertValue(object, type);
+        if (object != null && object.getClass() == type && (IMMUTABLE_TYPES.contains(type) || type.isEnum())) {
+            return (T) object;
+        }
+
+        return convert(object, READERS.get(type));
+    }
+
+    /**
+     * 주어진 JSON 객체를 TypeReference의 제네릭 타입 객체로 변환합니다.
+     *
+     * @param object        변환할 JSON 객체
+     * @param typeReference 변환할 제네릭 타입 정보
+     * @param <T>           변환할 타겟 타입
+     * @return 변환된 객체
+     */
+    public static <T> T convert(Object object, TypeReference<T> typeReference) {
+        return convert(object, getReader(getType(typeReference)));
+    }
+
+    /**
+     * 주어진 JSON 객체를 JavaType의 객체로 변환합니다.
+     *
+     * @param object 변환할 JSON 객체
+     * @param type   변환할 JavaType
+     * @param <T>    변환할 타겟 타입
+     * @return 변환된 객체
+     */
+    public static <T> T convert(Object object, JavaType type) {
+        return convert(object, getReader(type));
+    }
+
+    /**
+     * 주어진 객체의 값으로 기존 대상 객체를 갱신합니다.
+     * 새 객체를 만들지 않고 대상 객체의 필드만 설정하므로, 반복 변환 시 객체를 재사용할 수 있습니다.
+     * 원본에 없는 필드는 대상 객체의 기존 값을 유지합니다.
+     *
+     * @param source 값을 읽을 객체
+     * @param target 갱신할 대상 객체
+     * @param <T>    대상 객체의 타입
+     * @return 갱신된 대상 객체
+     */
+    public static <T> T convertInto(Object source, T target) {
+        if (source == null) {
+            return target;
+        }
+
+        return convert(source, READERS.get(target.getClass()).withValueToUpdate(target));
     }
 
     /**
@@ -69,7 +320,7 @@ public class ObjectMapperUtils {
      * @return 변환된 리스트 객체
      */
     public static <T> List<T> convertList(Object object, Class<T> type) {
-        return mapper.convertValue(object, mapper.getTypeFactory().constructCollectionType(List.class, type));
+        return convert(object, LIST_READERS.get(type));
     }
 
     /**
@@ -80,10 +331,73 @@ public class ObjectMapperUtils {
      */
     public static String toString(Object object) {
         try {
-            return mapper.writeValueAsString(object);
+            return writer.writeValueAsString(object);
         } catch (JsonProcessingException e) {
             log.error("convert object to string error", e);
             return "";
         }
     }
+
+    /**
+     * 객체를 TokenBuffer에 직렬화한 뒤 주어진 ObjectReader로 바로 읽어 변환합니다.
+     * {@link ObjectMapper#convertValue(Object, Class)}와 같은 결과를 반환하며, 타입 해석은 캐싱된 ObjectReader를 사용합니다.
+     *
+     * @param object 변환할 객체
+     * @param reader 대상 타입의 ObjectReader
+     * @param <T>    변환할 타겟 타입
+     * @return 변환된 객체, 객체가 null이면 null
+     * @throws IllegalArgumentException 변환할 수 없는 경우
+     */
+    private static <T> T convert(Object object, ObjectReader reader) {
+        if (object == null) {
+            return null;
+        }
+
+        try {
+            TokenBuffer buffer = new TokenBuffer(mapper, false);
+            writer.writeValue(buffer, object);
+
+            try (JsonParser parser = buffer.asParser(mapper)) {
+                return reader.readValue(parser);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * JSON 문자열을 주어진 ObjectReader로 읽습니다.
+     *
+     * @param json   JSON 문자열
+     * @param reader 대상 타입의 ObjectReader
+     * @param <T>    변환할 타겟 타입
+     * @return 변환된 객체
+     * @throws RuntimeException JSON 처리 중 오류가 발생한 경우
+     */
+    private static <T> T read(String json, ObjectReader reader) {
+        try {
+            return reader.readValue(json);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 공유 ObjectMapper를 생성합니다. 클래스패스에 접근자 모듈이 있으면 등록합니다.
+     *
+     * @return ObjectMapper 인스턴스
+     */
+    private static ObjectMapper createMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ClassLoader classLoader = ObjectMapperUtils.class.getClassLoader();
+
+        for (String module : ACCESSOR_MODULES) {
+            if (ClassUtils.isPresent(module, classLoader)) {
+                objectMapper.registerModule((Module) BeanUtils.instantiateClass(ClassUtils.resolveClassName(module, classLoader)));
+                break;
+            }
+        }
+
+        return objectMapper;
+    }
 }
@@ -1,5 +1,8 @@
 package io.bareun.base.file.annotation;
 
+import io.bareun.base.file.converter.ExcelConverter;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 
@@ -11,6 +14,12 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
  * <p>
  * 이 어노테이션은 필드에 적용되며, value 속성을 통해 헤더의 이름을 설정할 수 있습니다.
  * order 속성은 헤더의 순서를 지정합니다. 기본값은 1입니다.
+ * <p>
+ * format, alignment, border, bold 속성은 본문 셀의 스타일을 지정합니다.
+ * 같은 스타일 속성을 가진 컬럼은 워크북에서 하나의 CellStyle을 공유합니다.
+ * format이 비어 있으면 날짜 타입 필드는 기본 날짜 포맷을 사용합니다.
+ * <p>
+ * converter 속성에 {@link ExcelConverter} 구현 클래스를 지정하면 필드 값과 셀 값 사이의 변환에 사용합니다.
  */
 @Target(FIELD)
 @Retention(RUNTIME)
@@ -18,4 +27,9 @@ public @interface ExcelHeader {
 
 	String value() default "";
 	int order() default 1;
+	String format() default "";
+	HorizontalAlignment alignment() default HorizontalAlignment.GENERAL;
+	boolean border() default false;
+	boolean bold() default false;
+	Class<? extends ExcelConverter> converter() default ExcelConverter.class;
 }
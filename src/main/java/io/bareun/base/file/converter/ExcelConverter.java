@@ -0,0 +1,34 @@
+package io.bareun.base.file.converter;
+
+import io.bareun.base.file.annotation.ExcelHeader;
+
+/**
+ * ExcelConverter 인터페이스는 필드 값과 셀 값 사이의 사용자 정의 변환을 정의합니다.
+ * <p>
+ * {@link ExcelHeader#converter()}에 구현 클래스를 지정하면, 스키마를 만들 때 한 번만 생성되어 해당 컬럼의 읽기와 쓰기에 사용됩니다.
+ * 구현 클래스는 기본 생성자가 있어야 하며, 여러 스레드에서 동시에 사용될 수 있으므로 상태를 갖지 않아야 합니다.
+ *
+ * @param <T> 필드의 타입
+ */
+public interface ExcelConverter<T> {
+
+    /**
+     * 필드 값을 셀에 작성할 값으로 변환합니다.
+     * 반환 값은 String, Number, Boolean, Date, LocalDate, LocalDateTime 중 하나이며, 그 외 타입은 문자열로 작성됩니다.
+     *
+     * @param value 필드 값 (null이 아님)
+     * @return 셀에 작성할 값, null이면 빈 셀
+     */
+    Object toCellValue(T value);
+
+    /**
+     * 셀에서 읽은 값을 필드 값으로 변환합니다.
+     * 구현하지 않으면 쓰기 전용 변환기로 취급하며, 엑셀을 읽을 때는 변환기 대신 필드 타입에 따른 기본 변환을 사용합니다.
+     *
+     * @param value 셀에서 읽은 값 (String, Number, LocalDateTime 중 하나이며 null이 아님)
+     * @return 필드 값, null이면 설정하지 않음
+     */
+    default T fromCellValue(Object value) {
+        throw new UnsupportedOperationException(getClass().getName() + " is write-only");
+    }
+}
@@ -0,0 +1,84 @@
+package io.bareun.base.file.download;
+
+import io.bareun.base.file.util.CsvFileUtils;
+import io.bareun.base.file.util.FileUtils;
+import io.bareun.base.file.writer.CsvOptions;
+import io.bareun.base.file.writer.ExcelWriter;
+import lombok.Builder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * CsvDownloadFile 클래스는 CSV/TSV 파일을 HTTP 응답으로 직접 스트리밍하는 DownloadFile 인터페이스의 구현체입니다.
+ * 엑셀 다운로드와 같은 {@link ExcelWriter}를 사용하며, 스크립트 등에서 소비하는 단순한 표 데이터에 사용합니다.
+ */
+@Builder
+@RequiredArgsConstructor
+public class CsvDownloadFile implements DownloadFile<StreamingResponseBody> {
+
+    /**
+     * 다운로드할 파일명
+     */
+    private final String downloadFileName;
+
+    /**
+     * 작성할 데이터를 제공하는 ExcelWriter
+     */
+    private final ExcelWriter<?> excelWriter;
+
+    /**
+     * CSV 작성 옵션, null이면 {@link CsvOptions#CSV}
+     */
+    private final CsvOptions options;
+
+    /**
+     * UTF-8로 인코딩된 다운로드 파일명을 반환합니다.
+     *
+     * @return 인코딩된 파일명
+     */
+    @Override
+    public String getDownloadFileName() {
+        return FileUtils.encodeFileName(downloadFileName);
+    }
+
+    /**
+     * HTTP 다운로드 헤더를 설정하여 반환합니다.
+     * 파일 형식은 구분자에 따라 text/csv 또는 text/tab-separated-values로, gzip 압축 시 application/gzip으로 설정됩니다.
+     *
+     * @return HTTP 헤더 객체
+     */
+    @Override
+    public HttpHeaders getHeaders() {
+        CsvOptions csvOptions = getOptions();
+        MediaType contentType = csvOptions.isGzip() ? MediaType.parseMediaType("application/gzip")
+                : new MediaType("text", csvOptions.getDelimiter() == '\t' ? "tab-separated-values" : "csv", csvOptions.getCharset());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(contentType);
+        headers.setContentDispositionFormData("attachment", getDownloadFileName());
+
+        return headers;
+    }
+
+    /**
+     * 응답 스트림에 CSV/TSV 파일을 작성하는 {@link StreamingResponseBody}를 반환합니다.
+     *
+     * @return CSV/TSV 파일을 작성하는 StreamingResponseBody
+     */
+    @Override
+    public StreamingResponseBody getBody() {
+        CsvOptions csvOptions = getOptions();
+        return stream -> CsvFileUtils.write(excelWriter, stream, csvOptions);
+    }
+
+    /**
+     * CSV 작성 옵션을 반환합니다.
+     *
+     * @return 지정된 옵션, 없으면 {@link CsvOptions#CSV}
+     */
+    private CsvOptions getOptions() {
+        return options != null ? options : CsvOptions.CSV;
+    }
+}
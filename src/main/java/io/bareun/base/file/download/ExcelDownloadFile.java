@@ -1,12 +1,10 @@
 package io.bareun.base.file.download;
 
+import io.bareun.base.file.util.FileUtils;
 import lombok.Builder;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLEncoder;
-
 import static org.springframework.http.MediaType.APPLICATION_OCTET_STREAM;
 
 /**
@@ -33,11 +31,7 @@ public class ExcelDownloadFile implements DownloadFile<byte[]> {
      * @throws IllegalStateException 인코딩 지원되지 않는 경우
      */
     public String getDownloadFileName() {
-        try {
-            return URLEncoder.encode(downloadFileName, "UTF-8").replaceAll("\\+", "%20");
-        } catch (UnsupportedEncodingException e) {
-            throw new IllegalStateException("Unsupported encoding", e);
-        }
+        return FileUtils.encodeFileName(downloadFileName);
     }
 
     /**
@@ -0,0 +1,85 @@
+package io.bareun.base.file.download;
+
+import io.bareun.base.file.util.ExcelFileUtils;
+import io.bareun.base.file.util.FileUtils;
+import io.bareun.base.file.writer.ExcelExportOptions;
+import io.bareun.base.file.writer.ExcelExportResult;
+import io.bareun.base.file.writer.ExcelWriter;
+import lombok.Builder;
+import lombok.RequiredArgsConstructor;
+import lombok.Singular;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+import static org.springframework.http.MediaType.APPLICATION_OCTET_STREAM;
+
+/**
+ * ExcelStreamDownloadFile 클래스는 Excel 파일을 HTTP 응답으로 직접 스트리밍하는 DownloadFile 인터페이스의 구현체입니다.
+ * 바이트 배열을 만들지 않고 {@link StreamingResponseBody}를 통해 응답 스트림에 바로 작성하므로,
+ * 대용량 엑셀 다운로드 시 메모리 사용량이 파일 크기에 비례하지 않습니다.
+ * 여러 ExcelWriter를 지정하면 하나의 파일에 시트별로 작성됩니다.
+ */
+@Slf4j
+@Builder
+@RequiredArgsConstructor
+public class ExcelStreamDownloadFile implements DownloadFile<StreamingResponseBody> {
+
+    /**
+     * 다운로드할 파일명
+     */
+    private final String downloadFileName;
+
+    /**
+     * 시트별 Excel 파일 쓰기 작업을 수행하는 ExcelWriter 목록
+     */
+    @Singular
+    private final List<ExcelWriter<?>> excelWriters;
+
+    /**
+     * 엑셀 파일 작성 옵션, null이면 기본 옵션
+     */
+    private final ExcelExportOptions options;
+
+    /**
+     * UTF-8로 인코딩된 다운로드 파일명을 반환합니다.
+     *
+     * @return 인코딩된 파일명
+     */
+    @Override
+    public String getDownloadFileName() {
+        return FileUtils.encodeFileName(downloadFileName);
+    }
+
+    /**
+     * HTTP 다운로드 헤더를 설정하여 반환합니다.
+     * 파일 형식은 APPLICATION_OCTET_STREAM으로 설정되며, 다운로드할 파일명도 포함됩니다.
+     *
+     * @return HTTP 헤더 객체
+     */
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(APPLICATION_OCTET_STREAM);
+        headers.setContentDispositionFormData("attachment", getDownloadFileName());
+
+        return headers;
+    }
+
+    /**
+     * 응답 스트림에 Excel 파일을 작성하는 {@link StreamingResponseBody}를 반환합니다.
+     * 작성이 끝나면 {@link ExcelExportResult}를 로그로 남깁니다.
+     *
+     * @return Excel 파일을 작성하는 StreamingResponseBody
+     */
+    @Override
+    public StreamingResponseBody getBody() {
+        ExcelExportOptions exportOptions = options != null ? options : ExcelExportOptions.DEFAULT;
+        return stream -> {
+            ExcelExportResult result = ExcelFileUtils.write(excelWriters, stream, exportOptions);
+            log.info("Excel stream download completed : {}, {}", downloadFileName, result);
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package io.bareun.base.file.reader;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * ExcelImportChunk 클래스는 {@link ExcelImportPipeline}에서 한 번에 처리되는 행 묶음의 정보를 나타냅니다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ExcelImportChunk {
+
+    /**
+     * 0부터 시작하는 청크 순번
+     */
+    private final int index;
+
+    /**
+     * 청크의 첫 번째 행 번호 (0부터 시작, 헤더 포함)
+     */
+    private final int firstRowNum;
+
+    /**
+     * 청크의 마지막 행 번호 (0부터 시작, 헤더 포함)
+     */
+    private final int lastRowNum;
+
+    /**
+     * 청크의 행 개수
+     */
+    private final int size;
+}
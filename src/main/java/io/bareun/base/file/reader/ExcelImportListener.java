@@ -0,0 +1,26 @@
+package io.bareun.base.file.reader;
+
+/**
+ * ExcelImportListener 인터페이스는 {@link ExcelImportPipeline}의 청크 처리 결과를 전달받습니다.
+ * <p>
+ * 콜백은 워커 스레드에서 호출되므로, 구현체는 스레드 안전해야 합니다.
+ */
+public interface ExcelImportListener {
+
+    /**
+     * 청크가 변환, 검증 후 sink에 정상적으로 전달되었을 때 호출됩니다.
+     *
+     * @param chunk 처리된 청크
+     */
+    default void onSuccess(ExcelImportChunk chunk) {
+    }
+
+    /**
+     * 청크 처리 중 오류가 발생했을 때 호출됩니다.
+     *
+     * @param chunk 실패한 청크
+     * @param error 발생한 오류
+     */
+    default void onFailure(ExcelImportChunk chunk, Throwable error) {
+    }
+}
@@ -0,0 +1,363 @@
+package io.bareun.base.file.reader;
+
+import io.bareun.base.file.schema.ExcelRowBinder;
+import io.bareun.base.file.schema.ExcelSchema;
+import io.bareun.base.file.util.FileUtils;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static java.util.Comparator.comparingInt;
+
+/**
+ * ExcelImportPipeline 클래스는 대용량 엑셀 파일을 청크 단위로 병렬 처리하는 가져오기 파이프라인입니다.
+ * <p>
+ * 호출한 스레드가 {@link ExcelStreamReader}로 행을 읽어 chunkSize 단위로 묶고(생산자),
+ * 워커 스레드들이 청크를 변환, 검증한 뒤 sink(예: DB 일괄 등록)에 전달합니다.
+ * 대기 중인 청크는 queueCapacity개로 제한되어, 워커가 밀리면 읽기가 멈추므로(backpressure)
+ * 전체 행을 메모리에 올리지 않습니다.
+ *
+ * <pre>{@code
+ * ExcelImportResult result = ExcelImportPipeline.<UserRow>builder()
+ *         .type(UserRow.class)
+ *         .chunkSize(1000)
+ *         .workers(4)
+ *         .sink(userMapper::insertAll)
+ *         .build()
+ *         .run(file);
+ * }</pre>
+ *
+ * @param <T> 변환할 데이터의 타입
+ */
+@Slf4j
+@Builder
+public class ExcelImportPipeline<T> {
+
+    /**
+     * 변환할 데이터의 클래스 타입
+     */
+    @NonNull
+    private final Class<T> type;
+
+    /**
+     * 변환, 검증된 청크를 전달받는 sink
+     */
+    @NonNull
+    private final Consumer<List<T>> sink;
+
+    /**
+     * 행 단위 검증기. 예외를 던지면 해당 청크는 실패로 처리됩니다.
+     */
+    private final Consumer<T> validator;
+
+    /**
+     * 청크 처리 결과를 전달받는 리스너
+     */
+    private final ExcelImportListener listener;
+
+    /**
+     * 청크당 행 개수
+     */
+    @Builder.Default
+    private final int chunkSize = 1000;
+
+    /**
+     * 워커 스레드 개수
+     */
+    @Builder.Default
+    private final int workers = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * 워커에 전달되기를 기다리는 최대 청크 개수
+     */
+    @Builder.Default
+    private final int queueCapacity = 4;
+
+    /**
+     * 메모리에 보관할 공유 문자열의 최대 개수
+     */
+    @Builder.Default
+    private final int sharedStringsCacheSize = ExcelStreamReader.DEFAULT_SHARED_STRINGS_CACHE_SIZE;
+
+    /**
+     * 업로드된 엑셀 파일을 임시 파일로 저장한 뒤 파이프라인을 실행합니다.
+     *
+     * @param file 엑셀 파일
+     * @return 실행 결과
+     */
+    public ExcelImportResult run(MultipartFile file) {
+        File temp = FileUtils.transferToTemp(file, ".xlsx");
+
+        try {
+            return run(temp);
+        } finally {
+            try {
+                Files.deleteIfExists(temp.toPath());
+            } catch (IOException e) {
+                log.warn("Failed to delete excel import temp file : {}", temp, e);
+            }
+        }
+    }
+
+    /**
+     * 엑셀 파일로 파이프라인을 실행합니다. 모든 청크의 처리가 끝날 때까지 대기합니다.
+     *
+     * @param file xlsx 파일
+     * @return 실행 결과
+     * @throws IllegalArgumentException chunkSize, workers, queueCapacity가 0 이하인 경우
+     * @throws IllegalStateException    파일을 읽을 수 없거나, 헤더 행이 없거나, 실행 중 인터럽트된 경우
+     */
+    public ExcelImportResult run(File file) {
+        validate();
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("excel-import-"));
+        Execution execution = new Execution(executor);
+
+        try {
+            ExcelStreamReader.readRows(file, execution, sharedStringsCacheSize);
+
+            if (!execution.hasHeader()) {
+                throw new IllegalStateException("Excel header row not found : " + file.getName());
+            }
+
+            execution.flush();
+
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Excel import interrupted", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        execution.rethrowError();
+
+        return execution.toResult();
+    }
+
+    /**
+     * 청크 크기, 워커 수, 대기 청크 수를 검증합니다.
+     *
+     * @throws IllegalArgumentException 0 이하인 값이 있는 경우
+     */
+    private void validate() {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be greater than 0");
+        }
+
+        if (workers <= 0) {
+            throw new IllegalArgumentException("workers must be greater than 0");
+        }
+
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("queueCapacity must be greater than 0");
+        }
+    }
+
+    /**
+     * 파이프라인 한 번의 실행 상태입니다. 생산자로서 행을 청크로 묶어 워커에 전달합니다.
+     */
+    private class Execution implements ExcelRowHandler {
+
+        /**
+         * 청크를 처리하는 워커 스레드 풀
+         */
+        private final ExecutorService executor;
+
+        /**
+         * 처리 중이거나 대기 중인 청크 수를 제한하는 허가
+         */
+        private final Semaphore permits = new Semaphore(workers + queueCapacity);
+
+        /**
+         * sink에 전달된 행 개수
+         */
+        private final AtomicLong successRows = new AtomicLong();
+
+        /**
+         * 실패한 청크 목록
+         */
+        private final Queue<ExcelImportResult.Failure> failures = new ConcurrentLinkedQueue<>();
+
+        /**
+         * 워커에서 발생한 {@link Error}. 청크 실패로 기록하지 않고 실행이 끝난 뒤 다시 던집니다.
+         */
+        private final AtomicReference<Error> error = new AtomicReference<>();
+
+        /**
+         * 헤더로 생성한 행 바인더
+         */
+        private ExcelRowBinder<T> binder;
+
+        /**
+         * 현재 청크에 모인 행의 셀 값 배열
+         */
+        private List<Object[]> rows = new ArrayList<>(chunkSize);
+
+        /**
+         * 현재 청크에 모인 행의 행 번호
+         */
+        private int[] rowNums = new int[chunkSize];
+
+        /**
+         * 생성한 청크 개수
+         */
+        private int chunks;
+
+        /**
+         * 읽은 본문 행 개수
+         */
+        private long totalRows;
+
+        Execution(ExecutorService executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public void header(List<String> headers) {
+            binder = ExcelSchema.of(type).binder(headers);
+        }
+
+        @Override
+        public void row(int rowNum, Object[] values) {
+            if (binder == null) {
+                throw new IllegalStateException("Excel header row not found");
+            }
+
+            rethrowError();
+
+            rowNums[rows.size()] = rowNum;
+            rows.add(values);
+            totalRows++;
+
+            if (rows.size() >= chunkSize) {
+                try {
+                    flush();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Excel import interrupted", e);
+                }
+            }
+        }
+
+        /**
+         * 모인 행을 청크로 워커에 전달합니다. 대기 중인 청크가 가득 차면 자리가 날 때까지 대기합니다.
+         */
+        void flush() throws InterruptedException {
+            if (rows.isEmpty()) {
+                return;
+            }
+
+            int size = rows.size();
+            ExcelImportChunk chunk = new ExcelImportChunk(chunks++, rowNums[0], rowNums[size - 1], size);
+            List<Object[]> values = rows;
+            int[] numbers = rowNums;
+            rows = new ArrayList<>(chunkSize);
+            rowNums = new int[chunkSize];
+
+            permits.acquire();
+
+            try {
+                executor.execute(() -> {
+                    try {
+                        process(chunk, values, numbers);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        /**
+         * 워커 스레드에서 청크를 변환, 검증한 뒤 sink에 전달합니다.
+         *
+         * @param chunk   처리할 청크
+         * @param values  청크의 셀 값 배열 목록
+         * @param rowNums 셀 값 배열 순서의 행 번호
+         */
+        private void process(ExcelImportChunk chunk, List<Object[]> values, int[] rowNums) {
+            try {
+                List<T> items = new ArrayList<>(values.size());
+
+                for (int a = 0; a < values.size(); a++) {
+                    T item = binder.bind(rowNums[a], values.get(a));
+
+                    if (validator != null) {
+                        validator.accept(item);
+                    }
+
+                    items.add(item);
+                }
+
+                sink.accept(items);
+                successRows.addAndGet(items.size());
+
+                if (listener != null) {
+                    listener.onSuccess(chunk);
+                }
+            } catch (Exception e) {
+                failures.add(new ExcelImportResult.Failure(chunk, e));
+
+                if (listener != null) {
+                    listener.onFailure(chunk, e);
+                }
+            } catch (Error e) {
+                error.compareAndSet(null, e);
+                throw e;
+            }
+        }
+
+        /**
+         * 헤더 행을 읽었는지 여부를 반환합니다.
+         *
+         * @return 헤더 행을 읽었으면 true
+         */
+        boolean hasHeader() {
+            return binder != null;
+        }
+
+        /**
+         * 워커에서 {@link Error}가 발생했으면 다시 던집니다. 생산자는 행을 읽을 때마다 확인하여 읽기를 중단합니다.
+         */
+        void rethrowError() {
+            Error e = error.get();
+
+            if (e != null) {
+                throw e;
+            }
+        }
+
+        /**
+         * 실행 결과를 반환합니다.
+         *
+         * @return 실행 결과
+         */
+        ExcelImportResult toResult() {
+            List<ExcelImportResult.Failure> sorted = new ArrayList<>(failures);
+            sorted.sort(comparingInt(failure -> failure.getChunk().getIndex()));
+
+            return new ExcelImportResult(totalRows, successRows.get(), chunks, sorted);
+        }
+    }
+}
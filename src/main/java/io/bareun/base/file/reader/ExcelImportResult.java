@@ -0,0 +1,64 @@
+package io.bareun.base.file.reader;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * ExcelImportResult 클래스는 {@link ExcelImportPipeline} 실행 결과를 나타냅니다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ExcelImportResult {
+
+    /**
+     * 읽은 전체 행 개수
+     */
+    private final long totalRows;
+
+    /**
+     * sink에 정상적으로 전달된 행 개수
+     */
+    private final long successRows;
+
+    /**
+     * 처리한 청크 개수
+     */
+    private final int chunks;
+
+    /**
+     * 실패한 청크와 오류 목록
+     */
+    private final List<Failure> failures;
+
+    /**
+     * 모든 청크가 정상적으로 처리되었는지 여부를 반환합니다.
+     *
+     * @return 실패한 청크가 없으면 true
+     */
+    public boolean isSuccess() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * 실패한 청크와 오류를 나타냅니다.
+     */
+    @Getter
+    @ToString
+    @RequiredArgsConstructor
+    public static class Failure {
+
+        /**
+         * 실패한 청크
+         */
+        private final ExcelImportChunk chunk;
+
+        /**
+         * 발생한 오류
+         */
+        private final Throwable error;
+    }
+}
@@ -0,0 +1,26 @@
+package io.bareun.base.file.reader;
+
+import java.util.List;
+
+/**
+ * ExcelRowHandler 인터페이스는 엑셀 시트를 읽을 때 헤더와 본문 행을 전달받는 콜백을 정의합니다.
+ * <p>
+ * 헤더는 시트마다 한 번 전달되며, 본문 행은 컬럼 인덱스 순서의 셀 값 배열로 전달됩니다.
+ */
+public interface ExcelRowHandler {
+
+    /**
+     * 헤더 행을 전달받습니다.
+     *
+     * @param headers 컬럼 인덱스 순서의 헤더 이름 목록 (비어 있는 컬럼은 null)
+     */
+    void header(List<String> headers);
+
+    /**
+     * 본문 행을 전달받습니다.
+     *
+     * @param rowNum 0부터 시작하는 행 번호
+     * @param values 컬럼 인덱스 순서의 셀 값 배열 (헤더 개수만큼의 길이)
+     */
+    void row(int rowNum, Object[] values);
+}
@@ -0,0 +1,298 @@
+package io.bareun.base.file.reader;
+
+import org.apache.poi.ss.usermodel.RichTextString;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ExcelSharedStrings 클래스는 xlsx 파일의 공유 문자열 테이블을 제한된 메모리로 제공하는 {@link SharedStrings} 구현체입니다.
+ * <p>
+ * 공유 문자열은 임시 파일에 기록하고 메모리에는 오프셋과 최근 사용한 문자열만 보관하므로,
+ * 공유 문자열이 많은 대용량 파일도 힙 크기와 관계없이 읽을 수 있습니다.
+ * 한 스레드에서만 사용하며, 사용이 끝나면 {@link #close()}로 임시 파일을 삭제해야 합니다.
+ */
+public class ExcelSharedStrings implements SharedStrings, Closeable {
+
+    /**
+     * 공유 문자열을 기록한 임시 파일
+     */
+    private final File file;
+
+    /**
+     * 최근 사용한 문자열 캐시 (인덱스 기준)
+     */
+    private final Map<Integer, String> cache;
+
+    /**
+     * 임시 파일에서 각 문자열이 시작하는 오프셋
+     */
+    private long[] offsets = new long[1024];
+
+    /**
+     * 고유 문자열 개수
+     */
+    private int uniqueCount;
+
+    /**
+     * 통합 문서에서 공유 문자열을 참조하는 횟수
+     */
+    private int count;
+
+    /**
+     * 임시 파일을 읽는 리더 (처음 읽을 때 생성)
+     */
+    private RandomAccessFile reader;
+
+    /**
+     * 주어진 공유 문자열 XML을 읽어 임시 파일에 기록합니다.
+     *
+     * @param stream    sharedStrings.xml 입력 스트림
+     * @param cacheSize 메모리에 보관할 최대 문자열 개수
+     * @throws IOException 임시 파일 작성 또는 XML 파싱에 실패한 경우
+     */
+    public ExcelSharedStrings(InputStream stream, int cacheSize) throws IOException {
+        this.file = Files.createTempFile("excel-shared-strings", ".tmp").toFile();
+        this.cache = new LinkedHashMap<Integer, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, String> eldest) {
+                return size() > cacheSize;
+            }
+        };
+
+        try (OutputStream output = new BufferedOutputStream(new FileOutputStream(file))) {
+            if (stream != null) {
+                parse(stream, output);
+            }
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * 주어진 인덱스의 공유 문자열을 반환합니다.
+     *
+     * @param idx 공유 문자열 인덱스
+     * @return 공유 문자열
+     */
+    @Override
+    public RichTextString getItemAt(int idx) {
+        return new XSSFRichTextString(getString(idx));
+    }
+
+    /**
+     * 공유 문자열의 참조 개수를 반환합니다.
+     *
+     * @return 참조 개수
+     */
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * 고유한 공유 문자열 개수를 반환합니다.
+     *
+     * @return 고유한 공유 문자열 개수
+     */
+    @Override
+    public int getUniqueCount() {
+        return uniqueCount;
+    }
+
+    /**
+     * 주어진 인덱스의 공유 문자열을 반환합니다. 캐시에 없으면 임시 파일에서 읽습니다.
+     *
+     * @param index 공유 문자열 인덱스
+     * @return 공유 문자열
+     * @throws IllegalStateException 임시 파일을 읽을 수 없는 경우
+     */
+    public String getString(int index) {
+        if (index < 0 || index >= uniqueCount) {
+            throw new IndexOutOfBoundsException("Shared string index " + index + " out of range " + uniqueCount);
+        }
+
+        String value = cache.get(index);
+
+        if (value == null) {
+            value = load(index);
+            cache.put(index, value);
+        }
+
+        return value;
+    }
+
+    /**
+     * 임시 파일을 닫고 삭제합니다.
+     *
+     * @throws IOException 임시 파일을 닫을 수 없는 경우
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (reader != null) {
+                reader.close();
+            }
+        } finally {
+            Files.deleteIfExists(file.toPath());
+        }
+    }
+
+    /**
+     * 임시 파일에서 주어진 인덱스의 문자열을 읽습니다.
+     *
+     * @param index 공유 문자열 인덱스
+     * @return 읽은 문자열
+     */
+    private String load(int index) {
+        try {
+            if (reader == null) {
+                reader = new RandomAccessFile(file, "r");
+            }
+
+            byte[] bytes = new byte[(int) (offsets[index + 1] - offsets[index])];
+            reader.seek(offsets[index]);
+            reader.readFully(bytes);
+
+            return new String(bytes, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read shared string " + index, e);
+        }
+    }
+
+    /**
+     * 공유 문자열 XML을 파싱하여 각 문자열을 임시 파일에 순서대로 기록합니다.
+     *
+     * @param stream sharedStrings.xml 입력 스트림
+     * @param output 임시 파일 출력 스트림
+     * @throws IOException XML 파싱 또는 기록에 실패한 경우
+     */
+    private void parse(InputStream stream, OutputStream output) throws IOException {
+        try {
+            XMLReader xmlReader = XMLHelper.newXMLReader();
+            xmlReader.setContentHandler(new SharedStringsHandler(output));
+            xmlReader.parse(new InputSource(stream));
+        } catch (SAXException | ParserConfigurationException e) {
+            throw new IOException("Failed to parse shared strings", e);
+        }
+    }
+
+    /**
+     * 다음 문자열의 시작 오프셋을 기록합니다.
+     *
+     * @param offset 다음 문자열의 시작 오프셋
+     */
+    private void addOffset(long offset) {
+        if (uniqueCount + 1 >= offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+
+        offsets[++uniqueCount] = offset;
+    }
+
+    /**
+     * sharedStrings.xml의 {@code <si>} 요소마다 텍스트를 모아 기록하는 SAX 핸들러입니다.
+     * 윗주({@code <rPh>})의 텍스트는 제외합니다.
+     */
+    private class SharedStringsHandler extends DefaultHandler {
+
+        /**
+         * 공유 문자열을 기록할 임시 파일 출력 스트림
+         */
+        private final OutputStream output;
+
+        /**
+         * 현재 문자열 항목의 텍스트
+         */
+        private final StringBuilder text = new StringBuilder();
+
+        /**
+         * 다음 문자열을 기록할 오프셋
+         */
+        private long position;
+
+        /**
+         * 텍스트 요소({@code <t>}) 안에 있는지 여부
+         */
+        private boolean inText;
+
+        /**
+         * 윗주 요소({@code <rPh>}) 안에 있는지 여부
+         */
+        private boolean inPhonetic;
+
+        SharedStringsHandler(OutputStream output) {
+            this.output = output;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            String name = localName.isEmpty() ? qName : localName;
+
+            if ("sst".equals(name)) {
+                String value = attributes.getValue("count");
+                count = value != null ? Integer.parseInt(value) : 0;
+            } else if ("si".equals(name)) {
+                text.setLength(0);
+            } else if ("rPh".equals(name)) {
+                inPhonetic = true;
+            } else if ("t".equals(name)) {
+                inText = true;
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) throws SAXException {
+            String name = localName.isEmpty() ? qName : localName;
+
+            if ("si".equals(name)) {
+                write();
+            } else if ("rPh".equals(name)) {
+                inPhonetic = false;
+            } else if ("t".equals(name)) {
+                inText = false;
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (inText && !inPhonetic) {
+                text.append(ch, start, length);
+            }
+        }
+
+        private void write() throws SAXException {
+            byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+
+            try {
+                output.write(bytes);
+            } catch (IOException e) {
+                throw new SAXException("Failed to write shared string", e);
+            }
+
+            position += bytes.length;
+            addOffset(position);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package io.bareun.base.file.reader;
+
+import io.bareun.base.file.schema.ExcelRowBinder;
+import io.bareun.base.file.schema.ExcelSchema;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.NumberToTextConverter;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static io.bareun.base.file.util.ExcelFileUtils.HEADER_INDEX;
+
+/**
+ * ExcelStreamReader 클래스는 xlsx 파일을 SAX 이벤트 방식으로 한 행씩 읽는 리더입니다.
+ * <p>
+ * {@link org.apache.poi.ss.usermodel.WorkbookFactory}처럼 파일 전체를 메모리에 올리지 않고,
+ * {@link XSSFReader}로 시트 XML을 순차적으로 파싱하여 행마다 콜백을 호출합니다.
+ * 공유 문자열은 {@link ExcelSharedStrings}로 제한된 개수만 메모리에 보관하므로 힙보다 큰 파일도 처리할 수 있습니다.
+ * 첫 번째 시트만 읽으며, 첫 행은 헤더로 사용하여 시트마다 한 번만 {@link ExcelRowBinder}로 해석합니다.
+ * 수식 셀은 수식 대신 저장된 계산 결과를 읽습니다.
+ */
+public class ExcelStreamReader {
+
+    /**
+     * 메모리에 보관할 공유 문자열의 기본 최대 개수
+     */
+    public static final int DEFAULT_SHARED_STRINGS_CACHE_SIZE = 10_000;
+
+    /**
+     * xlsx 파일을 한 행씩 읽어 지정된 타입으로 변환한 뒤 consumer에 전달합니다.
+     *
+     * @param file     읽을 xlsx 파일
+     * @param type     변환할 데이터의 클래스 타입
+     * @param consumer 변환된 행을 처리할 consumer
+     * @param <T>      변환할 데이터의 타입
+     */
+    public static <T> void read(File file, Class<T> type, Consumer<T> consumer) {
+        read(file, type, consumer, DEFAULT_SHARED_STRINGS_CACHE_SIZE);
+    }
+
+    /**
+     * xlsx 파일을 한 행씩 읽어 지정된 타입으로 변환한 뒤 consumer에 전달합니다.
+     *
+     * @param file                    읽을 xlsx 파일
+     * @param type                    변환할 데이터의 클래스 타입
+     * @param consumer                변환된 행을 처리할 consumer
+     * @param sharedStringsCacheSize  메모리에 보관할 공유 문자열의 최대 개수
+     * @param <T>                     변환할 데이터의 타입
+     */
+    public static <T> void read(File file, Class<T> type, Consumer<T> consumer, int sharedStringsCacheSize) {
+        readRows(file, new ExcelRowHandler() {
+
+            /**
+             * 헤더 행으로 생성한 행 바인더
+             */
+            private ExcelRowBinder<T> binder;
+
+            @Override
+            public void header(List<String> headers) {
+                binder = ExcelSchema.of(type).binder(headers);
+            }
+
+            @Override
+            public void row(int rowNum, Object[] values) {
+                if (binder == null) {
+                    throw new IllegalStateException("Excel header row not found");
+                }
+
+                consumer.accept(binder.bind(rowNum, values));
+            }
+        }, sharedStringsCacheSize);
+    }
+
+    /**
+     * xlsx 파일을 한 행씩 읽어 헤더와 셀 값 배열을 handler에 전달합니다.
+     *
+     * @param file                   읽을 xlsx 파일
+     * @param handler                헤더와 행을 처리할 handler
+     * @param sharedStringsCacheSize 메모리에 보관할 공유 문자열의 최대 개수
+     * @throws IllegalStateException 파일을 읽을 수 없거나, 첫 행에 헤더가 없는 경우
+     */
+    public static void readRows(File file, ExcelRowHandler handler, int sharedStringsCacheSize) {
+        try {
+            OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ);
+
+            try {
+                readSheet(new XSSFReader(pkg), handler, sharedStringsCacheSize);
+            } finally {
+                pkg.revert();
+            }
+        } catch (IOException | OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IllegalStateException("Failed to read excel file", e);
+        }
+    }
+
+    /**
+     * 첫 번째 시트를 SAX 이벤트 방식으로 파싱합니다.
+     *
+     * @param reader                 xlsx 파일의 XSSFReader
+     * @param handler                헤더와 행을 처리할 handler
+     * @param sharedStringsCacheSize 메모리에 보관할 공유 문자열의 최대 개수
+     */
+    private static void readSheet(XSSFReader reader, ExcelRowHandler handler, int sharedStringsCacheSize)
+            throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+        try (ExcelSharedStrings strings = new ExcelSharedStrings(reader.getSharedStringsData(), sharedStringsCacheSize)) {
+            Iterator<InputStream> sheets = reader.getSheetsData();
+
+            if (!sheets.hasNext()) {
+                return;
+            }
+
+            try (InputStream sheet = sheets.next()) {
+                XMLReader xmlReader = XMLHelper.newXMLReader();
+                xmlReader.setContentHandler(new XSSFSheetXMLHandler(
+                        reader.getStylesTable(), strings, new RowHandler(handler), new RawValueFormatter(), false));
+                xmlReader.parse(new InputSource(sheet));
+            }
+        }
+    }
+
+    /**
+     * 셀 참조(예: "AB12")에서 0부터 시작하는 컬럼 인덱스를 반환합니다.
+     *
+     * @param reference 셀 참조
+     * @return 컬럼 인덱스
+     */
+    static int getColumnIndex(String reference) {
+        int column = 0;
+
+        for (int a = 0; a < reference.length(); a++) {
+            char c = reference.charAt(a);
+
+            if (c < 'A' || c > 'Z') {
+                break;
+            }
+
+            column = column * 26 + (c - 'A' + 1);
+        }
+
+        return column - 1;
+    }
+
+    /**
+     * 헤더 행을 한 번만 읽어 handler에 전달하고, 본문 행을 셀 값 배열로 전달하는 핸들러입니다.
+     */
+    private static class RowHandler implements SheetContentsHandler {
+
+        /**
+         * 헤더와 행을 전달받을 handler
+         */
+        private final ExcelRowHandler handler;
+
+        /**
+         * 컬럼 인덱스 순서의 헤더 이름
+         */
+        private final List<String> headers = new ArrayList<>();
+
+        /**
+         * 현재 행의 셀 값 배열
+         */
+        private Object[] values;
+
+        /**
+         * 현재 행 번호
+         */
+        private int rowNum;
+
+        /**
+         * 현재 행에 값이 있는 셀이 없는지 여부
+         */
+        private boolean empty;
+
+        /**
+         * 헤더 행을 읽었는지 여부
+         */
+        private boolean headerRead;
+
+        RowHandler(ExcelRowHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            this.rowNum = rowNum;
+            this.empty = true;
+
+            if (rowNum > HEADER_INDEX) {
+                if (!headerRead) {
+                    throw new IllegalStateException("Excel header row not found");
+                }
+
+                this.values = new Object[headers.size()];
+            }
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (rowNum == HEADER_INDEX) {
+                headerRead = true;
+                handler.header(headers);
+            } else if (!empty) {
+                handler.row(rowNum, values);
+            }
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = getColumnIndex(cellReference);
+
+            if (rowNum == HEADER_INDEX) {
+                while (headers.size() <= column) {
+                    headers.add(null);
+                }
+                headers.set(column, formattedValue);
+            } else if (column < values.length) {
+                values[column] = formattedValue;
+                empty = false;
+            }
+        }
+    }
+
+    /**
+     * 셀 표시 형식 대신 원본 값을 문자열로 반환하는 DataFormatter입니다.
+     * 숫자는 천 단위 구분 기호 없이, 날짜는 ISO-8601 형식으로 반환하여 타입 변환이 가능하도록 합니다.
+     */
+    private static class RawValueFormatter extends DataFormatter {
+
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString, boolean use1904Windowing) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DateUtil.getLocalDateTime(value, use1904Windowing).toString();
+            }
+
+            return NumberToTextConverter.toText(value);
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package io.bareun.base.file.schema;
+
+import io.bareun.base.file.converter.ExcelConverter;
+import org.apache.poi.ss.usermodel.Cell;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Date;
+
+/**
+ * ExcelCellWriter 인터페이스는 컬럼 하나의 필드 값을 셀에 작성하는 방법을 정의합니다.
+ * <p>
+ * 필드 타입에 맞는 구현을 스키마를 만들 때 한 번만 결정하므로, 셀마다 값의 타입을 검사하지 않습니다.
+ * 기본형 필드는 기본형 MethodHandle로 값을 읽어 박싱 없이 셀에 작성하며, null 값은 빈 셀로 남겨 둡니다.
+ */
+@FunctionalInterface
+interface ExcelCellWriter {
+
+    /**
+     * Excel 숫자 셀이 정확하게 표현할 수 있는 최대 유효 자릿수
+     */
+    int MAX_NUMERIC_PRECISION = 15;
+
+    /**
+     * Excel 숫자 셀이 정확하게 표현할 수 있는 최대 정수 값
+     */
+    long MAX_NUMERIC_VALUE = 999_999_999_999_999L;
+
+    /**
+     * 대상 객체의 필드 값을 셀에 작성합니다.
+     *
+     * @param cell   값을 작성할 셀
+     * @param target 값을 읽을 객체
+     * @throws Throwable 필드 값을 읽을 수 없는 경우
+     */
+    void write(Cell cell, Object target) throws Throwable;
+
+    /**
+     * 필드 타입에 맞는 ExcelCellWriter를 생성합니다.
+     *
+     * @param field     대상 필드
+     * @param getter    (Object)Object 형태의 필드 값을 읽는 MethodHandle
+     * @param converter 사용자 정의 변환기, 없으면 null
+     * @return 필드 타입에 맞는 ExcelCellWriter
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static ExcelCellWriter of(Field field, MethodHandle getter, ExcelConverter converter) {
+        Class<?> type = field.getType();
+
+        if (converter != null) {
+            return (cell, target) -> {
+                Object value = (Object) getter.invokeExact(target);
+
+                if (value != null) {
+                    setCellValue(cell, converter.toCellValue(value));
+                }
+            };
+        } else if (type == double.class || type == float.class || type == int.class || type == short.class || type == byte.class) {
+            MethodHandle handle = primitiveGetter(field, double.class);
+            return (cell, target) -> cell.setCellValue((double) handle.invokeExact(target));
+        } else if (type == long.class) {
+            MethodHandle handle = primitiveGetter(field, long.class);
+            return (cell, target) -> setCellValue(cell, (long) handle.invokeExact(target));
+        } else if (type == boolean.class) {
+            MethodHandle handle = primitiveGetter(field, boolean.class);
+            return (cell, target) -> cell.setCellValue((boolean) handle.invokeExact(target));
+        } else if (type == char.class) {
+            MethodHandle handle = primitiveGetter(field, char.class);
+            return (cell, target) -> cell.setCellValue(String.valueOf((char) handle.invokeExact(target)));
+        } else if (type == String.class) {
+            return (cell, target) -> {
+                Object value = (Object) getter.invokeExact(target);
+
+                if (value != null) {
+                    cell.setCellValue((String) value);
+                }
+            };
+        } else if (type == Long.class) {
+            return (cell, target) -> {
+                Object value = (Object) getter.invokeExact(target);
+
+                if (value != null) {
+                    setCellValue(cell, ((Long) value).longValue());
+                }
+            };
+        } else if (type == BigDecimal.class) {
+            return (cell, target) -> {
+                Object value = (Object) getter.invokeExact(target);
+
+                if (value != null) {
+                    setCellValue(cell, (BigDecimal) value);
+                }
+            };
+        } else if (type == BigInteger.class) {
+            return (cell, target) -> {
+                Object value = (Object) getter.invokeExact(target);
+
+                if (value != null) {
+                    setCellValue(cell, new BigDecimal((BigInteger) value));
+                }
+            };
+        } else if (Number.class.isAssignableFrom(type)) {
+            return (cell, target) -> {
+                Object value = (Object) getter.invokeExact(target);
+
+                if (value != null) {
+                    cell.setCellValue(((Number) value).doubleValue());
+                }
+            };
+        } else if (type == Boolean.class) {
+            return (cell, target) -> {
+                Object value = (Object) getter.invokeExact(target);
+
+                if (value != null) {
+                    cell.setCellValue((Boolean) value);
+                }
+            };
+        } else if (type == LocalDateTime.class) {
+            return (cell, target) -> {
+                Object value = (Object) getter.invokeExact(target);
+
+                if (value != null) {
+                    cell.setCellValue((LocalDateTime) value);
+                }
+            };
+        } else if (type == LocalDate.class) {
+            return (cell, target) -> {
+                Object value = (Object) getter.invokeExact(target);
+
+                if (value != null) {
+                    cell.setCellValue((LocalDate) value);
+                }
+            };
+        } else if (Date.class.isAssignableFrom(type)) {
+            return (cell, target) -> {
+                Object value = (Object) getter.invokeExact(target);
+
+                if (value != null) {
+                    cell.setCellValue((Date) value);
+                }
+            };
+        } else if (type == OffsetDateTime.class) {
+            return (cell, target) -> {
+                Object value = (Object) getter.invokeExact(target);
+
+                if (value != null) {
+                    cell.setCellValue(((OffsetDateTime) value).toLocalDateTime());
+                }
+            };
+        } else if (type == ZonedDateTime.class) {
+            return (cell, target) -> {
+                Object value = (Object) getter.invokeExact(target);
+
+                if (value != null) {
+                    cell.setCellValue(((ZonedDateTime) value).toLocalDateTime());
+                }
+            };
+        } else if (type == Instant.class) {
+            return (cell, target) -> {
+                Object value = (Object) getter.invokeExact(target);
+
+                if (value != null) {
+                    cell.setCellValue(LocalDateTime.ofInstant((Instant) value, ZoneId.systemDefault()));
+                }
+            };
+        } else if (type.isEnum() || type.getName().startsWith("java.")) {
+            return (cell, target) -> {
+                Object value = (Object) getter.invokeExact(target);
+
+                if (value != null) {
+                    cell.setCellValue(value.toString());
+                }
+            };
+        }
+
+        return (cell, target) -> setCellValue(cell, (Object) getter.invokeExact(target));
+    }
+
+    /**
+     * 타입을 알 수 없는 값을 셀에 작성합니다. 사용자 정의 변환기의 결과와 Object 타입 필드에 사용됩니다.
+     *
+     * @param cell  값을 작성할 셀
+     * @param value 작성할 값, null이면 빈 셀
+     */
+    static void setCellValue(Cell cell, Object value) {
+        if (value == null) {
+            return;
+        }
+
+        if (value instanceof String) {
+            cell.setCellValue((String) value);
+        } else if (value instanceof BigDecimal) {
+            setCellValue(cell, (BigDecimal) value);
+        } else if (value instanceof BigInteger) {
+            setCellValue(cell, new BigDecimal((BigInteger) value));
+        } else if (value instanceof Long) {
+            setCellValue(cell, ((Long) value).longValue());
+        } else if (value instanceof Number) {
+            cell.setCellValue(((Number) value).doubleValue());
+        } else if (value instanceof Boolean) {
+            cell.setCellValue((Boolean) value);
+        } else if (value instanceof Date) {
+            cell.setCellValue((Date) value);
+        } else if (value instanceof LocalDateTime) {
+            cell.setCellValue((LocalDateTime) value);
+        } else if (value instanceof LocalDate) {
+            cell.setCellValue((LocalDate) value);
+        } else {
+            cell.setCellValue(value.toString());
+        }
+    }
+
+    /**
+     * long 값을 셀에 작성합니다. 숫자 셀로 정확하게 표현할 수 없는 값은 문자열로 작성합니다.
+     *
+     * @param cell  값을 작성할 셀
+     * @param value 작성할 값
+     */
+    static void setCellValue(Cell cell, long value) {
+        if (value > MAX_NUMERIC_VALUE || value < -MAX_NUMERIC_VALUE) {
+            cell.setCellValue(Long.toString(value));
+        } else {
+            cell.setCellValue((double) value);
+        }
+    }
+
+    /**
+     * BigDecimal 값을 셀에 작성합니다. 숫자 셀로 정확하게 표현할 수 없는 값은 문자열로 작성합니다.
+     *
+     * @param cell  값을 작성할 셀
+     * @param value 작성할 값
+     */
+    static void setCellValue(Cell cell, BigDecimal value) {
+        if (value.precision() > MAX_NUMERIC_PRECISION) {
+            cell.setCellValue(value.toPlainString());
+        } else {
+            cell.setCellValue(value.doubleValue());
+        }
+    }
+
+    /**
+     * 기본형 값을 읽는 MethodHandle을 생성합니다.
+     *
+     * @param field      대상 필드
+     * @param returnType 반환할 기본형 타입 (필드 타입에서 확장 변환 가능해야 함)
+     * @return (Object)returnType 형태로 변환된 MethodHandle
+     */
+    static MethodHandle primitiveGetter(Field field, Class<?> returnType) {
+        try {
+            return MethodHandles.lookup()
+                    .unreflectGetter(field)
+                    .asType(MethodType.methodType(returnType, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access field " + field.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,383 @@
+package io.bareun.base.file.schema;
+
+import io.bareun.base.file.annotation.ExcelHeader;
+import io.bareun.base.file.converter.ExcelConverter;
+import io.bareun.base.file.style.ExcelCellStyle;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.NumberToTextConverter;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ClassUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Date;
+
+import static io.bareun.base.common.util.ObjectMapperUtils.convert;
+
+/**
+ * ExcelColumn 클래스는 {@link ExcelHeader}가 적용된 필드 하나의 해석된 정보를 보관합니다.
+ * <p>
+ * 헤더 이름, 정렬 순서와 함께 필드 값을 읽고 쓰는 {@link MethodHandle}을 미리 만들어 두므로,
+ * 셀 값을 읽고 쓸 때 리플렉션 탐색 없이 바로 호출됩니다.
+ * 셀 작성 방법({@link ExcelCellWriter})과 사용자 정의 변환기({@link ExcelConverter})도 여기서 한 번만 결정됩니다.
+ */
+@Getter
+public class ExcelColumn {
+
+    /**
+     * 컬럼에 해당하는 필드
+     */
+    private final Field field;
+
+    /**
+     * 헤더 이름
+     */
+    private final String name;
+
+    /**
+     * 헤더 정렬 순서
+     */
+    private final int order;
+
+    /**
+     * 본문 셀 스타일 정의
+     */
+    private final ExcelCellStyle style;
+
+    /**
+     * 필드 값을 읽는 MethodHandle ((Object)Object)
+     */
+    private final MethodHandle getter;
+
+    /**
+     * 필드 값을 설정하는 MethodHandle ((Object,Object)void)
+     */
+    private final MethodHandle setter;
+
+    /**
+     * 필드의 타입 (기본형은 래퍼 타입으로 변환)
+     */
+    private final Class<?> valueType;
+
+    /**
+     * 사용자 정의 변환기, 지정되지 않았으면 null
+     */
+    @SuppressWarnings("rawtypes")
+    private final ExcelConverter converter;
+
+    /**
+     * 읽기에 사용할 사용자 정의 변환기, 변환기가 {@link ExcelConverter#fromCellValue(Object)}를 구현하지 않았으면 null
+     */
+    @Getter(AccessLevel.NONE)
+    @SuppressWarnings("rawtypes")
+    private final ExcelConverter readConverter;
+
+    /**
+     * 필드 타입에 맞게 결정된 셀 작성기
+     */
+    @Getter(AccessLevel.NONE)
+    private final ExcelCellWriter cellWriter;
+
+    /**
+     * 주어진 필드로 ExcelColumn을 생성합니다.
+     *
+     * @param field {@link ExcelHeader}가 적용된 필드
+     * @throws IllegalStateException 필드에 접근할 수 없는 경우
+     */
+    ExcelColumn(Field field) {
+        ExcelHeader header = field.getAnnotation(ExcelHeader.class);
+
+        this.field = field;
+        this.name = header.value();
+        this.order = header.order();
+        this.style = ExcelCellStyle.of(header, getDefaultFormat(field.getType()));
+        this.getter = createGetter(field);
+        this.setter = createSetter(field);
+        this.valueType = ClassUtils.resolvePrimitiveIfNecessary(field.getType());
+        this.converter = createConverter(header);
+        this.readConverter = isReadable(converter) ? converter : null;
+        this.cellWriter = ExcelCellWriter.of(field, getter, converter);
+    }
+
+    /**
+     * 주어진 객체에서 이 컬럼의 필드 값을 반환합니다.
+     *
+     * @param target 값을 읽을 객체
+     * @return 필드 값
+     * @throws IllegalStateException 필드 값을 읽을 수 없는 경우
+     */
+    public Object getValue(Object target) {
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot access field " + field.getName(), e);
+        }
+    }
+
+    /**
+     * 주어진 객체에서 셀에 작성할 값을 반환합니다. 사용자 정의 변환기가 있으면 변환된 값을 반환합니다.
+     *
+     * @param target 값을 읽을 객체
+     * @return 셀에 작성할 값
+     * @throws IllegalStateException 필드 값을 읽을 수 없는 경우
+     */
+    public Object getCellValue(Object target) {
+        return toCellValue(getValue(target));
+    }
+
+    /**
+     * 필드 값을 셀에 작성할 값으로 변환합니다. 사용자 정의 변환기가 없으면 그대로 반환합니다.
+     *
+     * @param value 필드 값
+     * @return 셀에 작성할 값
+     */
+    @SuppressWarnings("unchecked")
+    public Object toCellValue(Object value) {
+        return converter != null && value != null ? converter.toCellValue(value) : value;
+    }
+
+    /**
+     * 주어진 필드 값을 셀에 작성합니다. {@link io.bareun.base.file.writer.ExcelWriter#getFieldValue}로 작성하는 경우에 사용됩니다.
+     *
+     * @param cell  값을 작성할 셀
+     * @param value 필드 값, null이면 빈 셀
+     */
+    public void writeValue(Cell cell, Object value) {
+        ExcelCellWriter.setCellValue(cell, toCellValue(value));
+    }
+
+    /**
+     * 주어진 객체의 필드 값을 셀에 작성합니다. null 값은 빈 셀로 남겨 둡니다.
+     *
+     * @param cell   값을 작성할 셀
+     * @param target 값을 읽을 객체
+     * @throws IllegalStateException 필드 값을 읽을 수 없는 경우
+     */
+    public void writeCell(Cell cell, Object target) {
+        try {
+            cellWriter.write(cell, target);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot access field " + field.getName(), e);
+        }
+    }
+
+    /**
+     * 주어진 객체에 이 컬럼의 필드 값을 설정합니다.
+     * 값은 필드 타입으로 변환되며, null 값과 빈 문자열은 설정하지 않습니다.
+     *
+     * @param target 값을 설정할 객체
+     * @param value  설정할 값
+     * @throws IllegalArgumentException 값을 필드 타입으로 변환할 수 없는 경우 (컬럼과 필드 이름 포함)
+     * @throws IllegalStateException    필드 값을 설정할 수 없는 경우
+     */
+    public void setValue(Object target, Object value) {
+        Object fieldValue;
+
+        try {
+            fieldValue = value != null ? toFieldValue(value) : null;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cannot convert cell value '" + value + "' of column '" + name
+                    + "' to " + valueType.getSimpleName() + " (field " + field.getName() + ")", e);
+        }
+
+        if (fieldValue == null) {
+            return;
+        }
+
+        try {
+            setter.invokeExact(target, fieldValue);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot set field " + field.getName(), e);
+        }
+    }
+
+    /**
+     * 필드 값을 설정할 수 있는지 여부를 반환합니다.
+     *
+     * @return final 필드 등으로 설정할 수 없으면 false
+     */
+    public boolean isWritable() {
+        return setter != null;
+    }
+
+    /**
+     * 주어진 값을 필드 타입으로 변환합니다.
+     * <p>
+     * 셀에서 읽은 문자열, 숫자, 날짜 값과 숫자 간 변환은 직접 처리하며, 그 외 타입만 Jackson 변환을 사용합니다.
+     *
+     * @param value 변환할 값
+     * @return 필드 타입으로 변환된 값, 빈 문자열이면 null
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object toFieldValue(Object value) {
+        if (readConverter != null) {
+            return value instanceof String && ((String) value).isEmpty() ? null : readConverter.fromCellValue(value);
+        }
+
+        if (valueType.isInstance(value)) {
+            return value;
+        }
+
+        if (value instanceof String) {
+            String text = (String) value;
+
+            if (text.isEmpty()) {
+                return null;
+            } else if (Number.class.isAssignableFrom(valueType)) {
+                value = new BigDecimal(text);
+            } else if (valueType == Boolean.class) {
+                return Boolean.valueOf(text);
+            } else if (valueType == LocalDateTime.class) {
+                return parseDateTime(text);
+            } else if (valueType == LocalDate.class) {
+                return parseDateTime(text).toLocalDate();
+            } else if (valueType.isEnum()) {
+                return Enum.valueOf((Class) valueType, text);
+            }
+        }
+
+        if (value instanceof Number) {
+            Number number = (Number) value;
+
+            if (valueType == Long.class) {
+                return number.longValue();
+            } else if (valueType == Integer.class) {
+                return number.intValue();
+            } else if (valueType == Double.class) {
+                return number.doubleValue();
+            } else if (valueType == Float.class) {
+                return number.floatValue();
+            } else if (valueType == Short.class) {
+                return number.shortValue();
+            } else if (valueType == Byte.class) {
+                return number.byteValue();
+            } else if (valueType == BigDecimal.class) {
+                return new BigDecimal(number.toString());
+            } else if (valueType == BigInteger.class) {
+                return new BigDecimal(number.toString()).toBigInteger();
+            } else if (valueType == LocalDateTime.class) {
+                return DateUtil.getLocalDateTime(number.doubleValue());
+            } else if (valueType == LocalDate.class) {
+                return DateUtil.getLocalDateTime(number.doubleValue()).toLocalDate();
+            } else if (valueType == String.class && value instanceof Double) {
+                return NumberToTextConverter.toText(number.doubleValue());
+            }
+        }
+
+        if (value instanceof LocalDateTime && valueType == LocalDate.class) {
+            return ((LocalDateTime) value).toLocalDate();
+        }
+
+        if (valueType == String.class) {
+            return value.toString();
+        }
+
+        return convert(value, valueType);
+    }
+
+    /**
+     * ISO-8601 날짜 또는 날짜시간 문자열을 LocalDateTime으로 변환합니다.
+     *
+     * @param text 변환할 문자열 (예: "2024-01-31", "2024-01-31T10:00")
+     * @return 변환된 LocalDateTime
+     */
+    private static LocalDateTime parseDateTime(String text) {
+        return text.indexOf('T') > 0 ? LocalDateTime.parse(text) : LocalDate.parse(text).atStartOfDay();
+    }
+
+    /**
+     * 필드 타입에 따른 기본 데이터 포맷을 반환합니다.
+     *
+     * @param type 필드 타입
+     * @return 날짜 타입이면 날짜 포맷, 그 외에는 빈 문자열
+     */
+    private static String getDefaultFormat(Class<?> type) {
+        if (type == LocalDateTime.class || type == OffsetDateTime.class || type == ZonedDateTime.class || type == Instant.class) {
+            return "yyyy-mm-dd hh:mm:ss";
+        } else if (type == LocalDate.class || Date.class.isAssignableFrom(type)) {
+            return "yyyy-mm-dd";
+        }
+
+        return "";
+    }
+
+    /**
+     * {@link ExcelHeader#converter()}에 지정된 사용자 정의 변환기를 생성합니다.
+     *
+     * @param header 필드의 ExcelHeader
+     * @return 변환기 인스턴스, 지정되지 않았으면 null
+     */
+    @SuppressWarnings("rawtypes")
+    private static ExcelConverter createConverter(ExcelHeader header) {
+        Class<? extends ExcelConverter> type = header.converter();
+        return type == ExcelConverter.class ? null : BeanUtils.instantiateClass(type);
+    }
+
+    /**
+     * 변환기가 셀 값 읽기를 구현했는지 여부를 반환합니다.
+     * 쓰기 전용 변환기를 지정한 컬럼은 읽을 때 기본 타입 변환을 사용합니다.
+     *
+     * @param converter 사용자 정의 변환기
+     * @return {@link ExcelConverter#fromCellValue(Object)}를 구현했으면 true
+     */
+    @SuppressWarnings("rawtypes")
+    private static boolean isReadable(ExcelConverter converter) {
+        if (converter == null) {
+            return false;
+        }
+
+        try {
+            return converter.getClass().getMethod("fromCellValue", Object.class).getDeclaringClass() != ExcelConverter.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 필드 값을 읽는 MethodHandle을 생성합니다.
+     *
+     * @param field 대상 필드
+     * @return (Object)Object 형태로 변환된 MethodHandle
+     */
+    private static MethodHandle createGetter(Field field) {
+        field.setAccessible(true);
+
+        try {
+            return MethodHandles.lookup()
+                    .unreflectGetter(field)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access field " + field.getName(), e);
+        }
+    }
+
+    /**
+     * 필드 값을 설정하는 MethodHandle을 생성합니다.
+     *
+     * @param field 대상 필드
+     * @return (Object,Object)void 형태로 변환된 MethodHandle, 설정할 수 없는 필드이면 null
+     */
+    private static MethodHandle createSetter(Field field) {
+        try {
+            return MethodHandles.lookup()
+                    .unreflectSetter(field)
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package io.bareun.base.file.schema;
+
+import io.bareun.base.file.annotation.ExcelHeader;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.bareun.base.common.util.ObjectMapperUtils.convert;
+
+/**
+ * ExcelRowBinder 클래스는 엑셀 행의 셀 값을 대상 객체의 필드에 바로 설정하는 바인더입니다.
+ * <p>
+ * 시트의 헤더를 한 번만 해석하여 컬럼 인덱스별 {@link ExcelColumn} 배열을 만들어 두므로,
+ * 행마다 헤더를 다시 읽거나 중간 Map을 거치지 않습니다.
+ * 헤더는 {@link ExcelHeader#value()} 또는 Jackson 프로퍼티 이름({@code @JsonProperty}, {@code @JsonAlias})과 일치하는 컬럼에 바인딩됩니다.
+ * <p>
+ * {@link ExcelHeader}가 없는 필드의 헤더처럼 컬럼과 일치하지 않는 헤더의 값은 Jackson으로 변환한 뒤,
+ * 일치하는 컬럼의 값을 그 객체에 설정합니다.
+ * 대상 타입에 {@link ExcelHeader} 필드가 없거나 기본 생성자가 없으면, 모든 값을 Jackson으로 변환합니다.
+ *
+ * @param <T> 바인딩할 객체의 타입
+ */
+public class ExcelRowBinder<T> {
+
+    /**
+     * 바인딩할 타입의 스키마
+     */
+    private final ExcelSchema schema;
+
+    /**
+     * 시트 컬럼 인덱스 순서의 헤더 이름
+     */
+    private final String[] headers;
+
+    /**
+     * 헤더와 일치하는 컬럼, 일치하는 컬럼이 없으면 null
+     */
+    private final ExcelColumn[] columns;
+
+    /**
+     * Jackson으로 변환할 때 헤더별로 사용할 키, 변환하지 않을 헤더는 null
+     */
+    private final String[] keys;
+
+    /**
+     * 리플렉션으로 컬럼 값을 바로 설정할 수 있는지 여부
+     */
+    private final boolean direct;
+
+    /**
+     * 컬럼과 일치하지 않아 Jackson으로 변환할 헤더가 있는지 여부
+     */
+    private final boolean partial;
+
+    /**
+     * 주어진 스키마와 헤더 목록으로 ExcelRowBinder를 생성합니다.
+     *
+     * @param schema  바인딩할 타입의 ExcelSchema
+     * @param headers 시트 컬럼 인덱스 순서의 헤더 이름 목록
+     */
+    ExcelRowBinder(ExcelSchema schema, List<String> headers) {
+        this.schema = schema;
+        this.headers = headers.toArray(new String[0]);
+        this.columns = new ExcelColumn[this.headers.length];
+        this.keys = new String[this.headers.length];
+        this.direct = schema.isBindable();
+
+        boolean unmatched = false;
+
+        for (int a = 0; a < this.headers.length; a++) {
+            String header = this.headers[a];
+            columns[a] = schema.getColumn(header);
+
+            if (columns[a] != null) {
+                keys[a] = schema.getPropertyName(columns[a]);
+            } else if (header != null && !header.isEmpty() && (!direct || schema.isProperty(header))) {
+                keys[a] = header;
+                unmatched = true;
+            }
+        }
+
+        this.partial = unmatched;
+    }
+
+    /**
+     * 헤더의 개수를 반환합니다.
+     *
+     * @return 헤더의 개수
+     */
+    public int size() {
+        return headers.length;
+    }
+
+    /**
+     * 컬럼 인덱스 순서의 셀 값 배열을 대상 객체로 변환합니다.
+     *
+     * @param values 컬럼 인덱스 순서의 셀 값 배열
+     * @return 값이 설정된 객체
+     */
+    @SuppressWarnings("unchecked")
+    public T bind(Object[] values) {
+        if (!direct) {
+            return (T) convert(toMap(values, false), schema.getType());
+        }
+
+        Object target = partial ? convert(toMap(values, true), schema.getType()) : schema.newInstance();
+        int length = Math.min(values.length, columns.length);
+
+        for (int a = 0; a < length; a++) {
+            if (columns[a] != null) {
+                columns[a].setValue(target, values[a]);
+            }
+        }
+
+        return (T) target;
+    }
+
+    /**
+     * 주어진 행 번호의 셀 값 배열을 대상 객체로 변환합니다. 변환에 실패하면 예외 메시지에 행 번호를 포함합니다.
+     *
+     * @param rowNum 0부터 시작하는 행 번호
+     * @param values 컬럼 인덱스 순서의 셀 값 배열
+     * @return 값이 설정된 객체
+     * @throws IllegalArgumentException 셀 값을 필드 타입으로 변환할 수 없는 경우
+     */
+    public T bind(int rowNum, Object[] values) {
+        try {
+            return bind(values);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Row " + (rowNum + 1) + " : " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 셀 값 배열을 Jackson 프로퍼티 이름을 키로 하는 Map으로 변환합니다.
+     *
+     * @param values        컬럼 인덱스 순서의 셀 값 배열
+     * @param unmatchedOnly 컬럼과 일치하지 않는 헤더의 값만 담을지 여부
+     * @return 프로퍼티 이름을 키로 하는 Map
+     */
+    private Map<String, Object> toMap(Object[] values, boolean unmatchedOnly) {
+        Map<String, Object> map = new HashMap<>();
+        int length = Math.min(values.length, headers.length);
+
+        for (int a = 0; a < length; a++) {
+            if (keys[a] != null && !(unmatchedOnly && columns[a] != null)) {
+                map.put(keys[a], values[a]);
+            }
+        }
+
+        return map;
+    }
+}
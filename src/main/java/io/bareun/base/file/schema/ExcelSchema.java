@@ -0,0 +1,395 @@
+package io.bareun.base.file.schema;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import io.bareun.base.common.util.ObjectMapperUtils;
+import io.bareun.base.file.annotation.ExcelHeader;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.bareun.base.common.util.ObjectMapperUtils.convert;
+import static java.util.Collections.addAll;
+import static java.util.Comparator.comparingInt;
+import static java.util.Objects.nonNull;
+
+/**
+ * ExcelSchema 클래스는 엑셀 파일로 변환할 클래스의 컬럼 정보를 보관합니다.
+ * <p>
+ * {@link ExcelHeader}가 적용된 필드를 order 순으로 정렬하여 배열로 보관하며,
+ * 클래스마다 한 번만 생성되어 {@link ClassValue}에 캐싱됩니다.
+ */
+public class ExcelSchema {
+
+    /**
+     * 클래스별 ExcelSchema 캐시
+     */
+    private static final ClassValue<ExcelSchema> CACHE = new ClassValue<ExcelSchema>() {
+        @Override
+        protected ExcelSchema computeValue(Class<?> type) {
+            return new ExcelSchema(type);
+        }
+    };
+
+    /**
+     * 스키마 대상 클래스
+     */
+    private final Class<?> type;
+
+    /**
+     * order 순으로 정렬된 컬럼 배열
+     */
+    private final ExcelColumn[] columns;
+
+    /**
+     * 헤더 이름 및 Jackson 프로퍼티 이름으로 조회하는 컬럼 색인
+     */
+    private final Map<String, ExcelColumn> columnsByName = new HashMap<>();
+
+    /**
+     * 컬럼별 Jackson 프로퍼티 이름 ({@code @JsonIgnore} 필드는 제외)
+     */
+    private final Map<ExcelColumn, String> propertyNames = new IdentityHashMap<>();
+
+    /**
+     * Jackson이 역직렬화하는 모든 프로퍼티의 이름과 별칭
+     */
+    private final Set<String> properties = new HashSet<>();
+
+    /**
+     * Map 바인딩 시 컬럼별로 조회할 키 목록 (Jackson 프로퍼티 이름, 별칭 순)
+     */
+    private final String[][] mapKeys;
+
+    /**
+     * 기본 생성자를 호출하는 MethodHandle (()Object), 기본 생성자가 없으면 null
+     */
+    private final MethodHandle constructor;
+
+    /**
+     * 리플렉션 바인딩 가능 여부
+     */
+    private final boolean bindable;
+
+    /**
+     * 주어진 클래스로 ExcelSchema를 생성합니다.
+     *
+     * @param type 스키마 대상 클래스
+     */
+    private ExcelSchema(Class<?> type) {
+        this.type = type;
+        this.columns = getFields(type).stream()
+                .filter(field -> field.isAnnotationPresent(ExcelHeader.class))
+                .map(ExcelColumn::new)
+                .sorted(comparingInt(ExcelColumn::getOrder))
+                .toArray(ExcelColumn[]::new);
+        this.constructor = createConstructor(type);
+        this.bindable = constructor != null && columns.length > 0 && Arrays.stream(columns).allMatch(ExcelColumn::isWritable);
+        this.mapKeys = createMapKeys(type, columns, properties);
+
+        for (int a = 0; a < columns.length; a++) {
+            for (String key : mapKeys[a]) {
+                columnsByName.putIfAbsent(key, columns[a]);
+            }
+
+            if (mapKeys[a].length > 0) {
+                propertyNames.put(columns[a], mapKeys[a][0]);
+            }
+        }
+
+        for (ExcelColumn column : columns) {
+            if (!column.getName().isEmpty()) {
+                columnsByName.put(column.getName(), column);
+            }
+        }
+    }
+
+    /**
+     * 주어진 클래스의 ExcelSchema를 반환합니다. 처음 호출될 때 한 번만 생성됩니다.
+     *
+     * @param type 스키마 대상 클래스
+     * @return ExcelSchema 인스턴스
+     */
+    public static ExcelSchema of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    /**
+     * 스키마 대상 클래스를 반환합니다.
+     *
+     * @return 스키마 대상 클래스
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * 컬럼의 총 개수를 반환합니다.
+     *
+     * @return 컬럼의 총 개수
+     */
+    public int size() {
+        return columns.length;
+    }
+
+    /**
+     * 주어진 인덱스의 컬럼을 반환합니다.
+     *
+     * @param index 컬럼 인덱스
+     * @return ExcelColumn
+     */
+    public ExcelColumn getColumn(int index) {
+        return columns[index];
+    }
+
+    /**
+     * 정렬된 컬럼 목록을 읽기 전용 리스트로 반환합니다.
+     *
+     * @return 컬럼 목록
+     */
+    public List<ExcelColumn> getColumns() {
+        return Collections.unmodifiableList(Arrays.asList(columns));
+    }
+
+    /**
+     * 주어진 인덱스의 헤더 이름을 반환합니다.
+     *
+     * @param index 컬럼 인덱스
+     * @return 헤더 이름
+     */
+    public String getHeaderName(int index) {
+        return columns[index].getName();
+    }
+
+    /**
+     * 주어진 이름에 해당하는 컬럼을 반환합니다.
+     * {@link ExcelHeader#value()}를 먼저 찾고, 없으면 Map 바인딩과 같은 Jackson 프로퍼티 이름과 별칭으로 찾습니다.
+     *
+     * @param name 헤더 이름 또는 프로퍼티 이름
+     * @return ExcelColumn, 없으면 null
+     */
+    public ExcelColumn getColumn(String name) {
+        return name != null ? columnsByName.get(name) : null;
+    }
+
+    /**
+     * 주어진 컬럼의 Jackson 프로퍼티 이름을 반환합니다.
+     *
+     * @param column 컬럼
+     * @return 프로퍼티 이름, {@code @JsonIgnore} 필드이면 null
+     */
+    public String getPropertyName(ExcelColumn column) {
+        return propertyNames.get(column);
+    }
+
+    /**
+     * 주어진 이름이 Jackson이 역직렬화하는 프로퍼티의 이름 또는 별칭인지 여부를 반환합니다.
+     *
+     * @param name 헤더 이름
+     * @return Jackson 프로퍼티 이름이면 true
+     */
+    public boolean isProperty(String name) {
+        return name != null && properties.contains(name);
+    }
+
+    /**
+     * 엑셀 헤더 목록으로 행 바인더를 생성합니다.
+     * 헤더는 시트마다 한 번만 해석되며, 이후 행은 컬럼 인덱스로 바로 바인딩됩니다.
+     *
+     * @param headers 시트 컬럼 인덱스 순서의 헤더 이름 목록
+     * @param <T>     스키마 대상 타입
+     * @return ExcelRowBinder 인스턴스
+     */
+    public <T> ExcelRowBinder<T> binder(List<String> headers) {
+        return new ExcelRowBinder<>(this, headers);
+    }
+
+    /**
+     * 주어진 객체에서 지정된 인덱스의 컬럼 값을 반환합니다.
+     *
+     * @param target 값을 읽을 객체
+     * @param index  컬럼 인덱스
+     * @return 필드 값
+     */
+    public Object getValue(Object target, int index) {
+        return columns[index].getValue(target);
+    }
+
+    /**
+     * 주어진 원본 데이터를 스키마 대상 타입의 객체로 변환합니다.
+     * <p>
+     * 이미 대상 타입이면 그대로 반환하고, {@link Map}이면 컬럼 필드에 값을 직접 설정합니다.
+     * 그 외의 경우에만 Jackson 변환을 사용합니다.
+     *
+     * @param source 원본 데이터
+     * @param <T>    스키마 대상 타입
+     * @return 변환된 객체
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T bind(Object source) {
+        if (type.isInstance(source)) {
+            return (T) source;
+        }
+
+        if (source instanceof Map && isBindable()) {
+            return (T) bindMap((Map<?, ?>) source);
+        }
+
+        return (T) convert(source, type);
+    }
+
+    /**
+     * 새로운 스키마 대상 객체를 생성합니다.
+     *
+     * @return 생성된 객체
+     * @throws IllegalStateException 객체를 생성할 수 없는 경우
+     */
+    public Object newInstance() {
+        try {
+            return (Object) constructor.invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot instantiate " + type.getName(), e);
+        }
+    }
+
+    /**
+     * 리플렉션 바인딩이 가능한지 여부를 반환합니다.
+     * 기본 생성자가 있고, 컬럼이 하나 이상이며, 모든 컬럼 필드에 값을 설정할 수 있어야 합니다.
+     *
+     * @return 바인딩 가능 여부
+     */
+    public boolean isBindable() {
+        return bindable;
+    }
+
+    /**
+     * Map의 값을 Jackson 프로퍼티 이름과 별칭으로 찾아 새로운 객체에 설정합니다.
+     * 객체를 Jackson으로 변환할 때와 같은 이름으로 값을 찾습니다.
+     *
+     * @param map 원본 Map
+     * @return 값이 설정된 객체
+     */
+    private Object bindMap(Map<?, ?> map) {
+        Object target = newInstance();
+
+        for (int a = 0; a < columns.length; a++) {
+            for (String key : mapKeys[a]) {
+                if (map.containsKey(key)) {
+                    columns[a].setValue(target, map.get(key));
+                    break;
+                }
+            }
+        }
+
+        return target;
+    }
+
+    /**
+     * 컬럼별로 Map에서 조회할 키 목록을 생성합니다.
+     * Jackson 프로퍼티의 이름({@code @JsonProperty})과 별칭({@code @JsonAlias})을 사용하며,
+     * Jackson이 인식하지 않는 필드(접근자가 없는 private 필드 등)는 필드 이름을 사용하고, {@code @JsonIgnore} 필드는 설정하지 않습니다.
+     *
+     * @param type        스키마 대상 클래스
+     * @param columns     컬럼 배열
+     * @param propertySet Jackson 프로퍼티의 이름과 별칭을 담을 Set
+     * @return 컬럼 순서대로의 키 목록
+     */
+    private static String[][] createMapKeys(Class<?> type, ExcelColumn[] columns, Set<String> propertySet) {
+        BeanDescription description = ObjectMapperUtils.getBeanDescription(type);
+        Set<String> ignored = description.getIgnoredPropertyNames();
+        Map<String, BeanPropertyDefinition> properties = new HashMap<>();
+
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            properties.put(property.getInternalName(), property);
+
+            if (property.hasSetter() || property.hasField() || property.hasConstructorParameter()) {
+                propertySet.add(property.getName());
+
+                for (PropertyName alias : property.findAliases()) {
+                    propertySet.add(alias.getSimpleName());
+                }
+            }
+        }
+
+        String[][] keys = new String[columns.length][];
+
+        for (int a = 0; a < columns.length; a++) {
+            String fieldName = columns[a].getField().getName();
+            BeanPropertyDefinition property = properties.get(fieldName);
+
+            if (ignored.contains(fieldName)) {
+                keys[a] = new String[0];
+                continue;
+            } else if (property == null) {
+                keys[a] = new String[]{fieldName};
+                continue;
+            }
+
+            List<String> names = new ArrayList<>();
+            names.add(property.getName());
+
+            for (PropertyName alias : property.findAliases()) {
+                names.add(alias.getSimpleName());
+            }
+
+            keys[a] = names.toArray(new String[0]);
+        }
+
+        return keys;
+    }
+
+    /**
+     * 기본 생성자를 호출하는 MethodHandle을 생성합니다.
+     *
+     * @param type 대상 클래스
+     * @return ()Object 형태로 변환된 MethodHandle, 기본 생성자가 없으면 null
+     */
+    private static MethodHandle createConstructor(Class<?> type) {
+        if (Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+
+            return MethodHandles.lookup()
+                    .unreflectConstructor(constructor)
+                    .asType(MethodType.methodType(Object.class));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 상위 클래스와 주어진 클래스에 선언된 필드들을 반환합니다.
+     *
+     * @param type 대상 클래스
+     * @return 선언된 필드 목록
+     */
+    private static List<Field> getFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+
+        if (nonNull(type.getSuperclass())) {
+            addAll(fields, type.getSuperclass().getDeclaredFields());
+        }
+
+        addAll(fields, type.getDeclaredFields());
+
+        return fields;
+    }
+}
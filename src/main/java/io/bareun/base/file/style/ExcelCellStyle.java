@@ -0,0 +1,65 @@
+package io.bareun.base.file.style;
+
+import io.bareun.base.file.annotation.ExcelHeader;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+
+/**
+ * ExcelCellStyle 클래스는 셀 스타일의 정의를 나타내는 값 객체입니다.
+ * <p>
+ * 같은 정의는 {@link ExcelStyleRegistry}에서 하나의 CellStyle로 공유되므로,
+ * 행 수와 관계없이 워크북의 스타일 개수가 일정하게 유지됩니다.
+ */
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor(staticName = "of")
+public class ExcelCellStyle {
+
+    /**
+     * 스타일을 지정하지 않은 기본 정의
+     */
+    public static final ExcelCellStyle DEFAULT = of("", HorizontalAlignment.GENERAL, false, false);
+
+    /**
+     * 데이터 포맷 (예: "#,##0", "yyyy-mm-dd"), 빈 문자열이면 기본 포맷
+     */
+    private final String format;
+
+    /**
+     * 가로 정렬
+     */
+    private final HorizontalAlignment alignment;
+
+    /**
+     * 얇은 테두리 사용 여부
+     */
+    private final boolean border;
+
+    /**
+     * 굵은 글꼴 사용 여부
+     */
+    private final boolean bold;
+
+    /**
+     * {@link ExcelHeader} 속성으로부터 셀 스타일 정의를 생성합니다.
+     *
+     * @param header        ExcelHeader 어노테이션
+     * @param defaultFormat format 속성이 비어 있을 때 사용할 포맷
+     * @return 셀 스타일 정의
+     */
+    public static ExcelCellStyle of(ExcelHeader header, String defaultFormat) {
+        String format = header.format().isEmpty() ? defaultFormat : header.format();
+        return of(format, header.alignment(), header.border(), header.bold());
+    }
+
+    /**
+     * 기본 정의인지 여부를 반환합니다.
+     *
+     * @return 기본 정의이면 true
+     */
+    public boolean isDefault() {
+        return DEFAULT.equals(this);
+    }
+}
@@ -0,0 +1,175 @@
+package io.bareun.base.file.style;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.DataFormat;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.VerticalAlignment;
+import org.apache.poi.ss.usermodel.Workbook;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.apache.poi.ss.usermodel.BorderStyle.THIN;
+import static org.apache.poi.ss.usermodel.FillPatternType.SOLID_FOREGROUND;
+import static org.apache.poi.ss.usermodel.IndexedColors.BLACK;
+import static org.apache.poi.ss.usermodel.IndexedColors.GREY_25_PERCENT;
+
+/**
+ * ExcelStyleRegistry 클래스는 워크북 단위로 CellStyle과 Font를 공유하는 저장소입니다.
+ * <p>
+ * 기본 헤더 스타일과 스타일 정의({@link ExcelCellStyle})마다 한 번만 CellStyle을 생성하므로,
+ * 셀마다 스타일을 새로 만들어 워크북의 스타일 한도에 도달하는 문제를 방지합니다.
+ * 워크북 작성은 단일 스레드에서 이루어지므로 동기화하지 않습니다.
+ */
+public class ExcelStyleRegistry {
+
+    /**
+     * 스타일을 생성할 워크북
+     */
+    private final Workbook workbook;
+
+    /**
+     * 워크북의 데이터 포맷
+     */
+    private final DataFormat dataFormat;
+
+    /**
+     * 스타일 정의별 CellStyle
+     */
+    private final Map<ExcelCellStyle, CellStyle> styles = new HashMap<>();
+
+    /**
+     * 굵은 글꼴 (처음 요청될 때 생성)
+     */
+    private Font boldFont;
+
+    /**
+     * 기본 헤더 스타일 (처음 요청될 때 생성)
+     */
+    private CellStyle headerStyle;
+
+    /**
+     * 주어진 워크북으로 ExcelStyleRegistry를 생성합니다.
+     *
+     * @param workbook 스타일을 생성할 Workbook 인스턴스
+     */
+    public ExcelStyleRegistry(Workbook workbook) {
+        this.workbook = workbook;
+        this.dataFormat = workbook.createDataFormat();
+    }
+
+    /**
+     * 주어진 워크북의 ExcelStyleRegistry를 생성하여 반환합니다.
+     *
+     * @param workbook 스타일을 생성할 Workbook 인스턴스
+     * @return ExcelStyleRegistry 인스턴스
+     */
+    public static ExcelStyleRegistry of(Workbook workbook) {
+        return new ExcelStyleRegistry(workbook);
+    }
+
+    /**
+     * 스타일 정의에 해당하는 CellStyle을 반환합니다. 처음 요청될 때 한 번만 생성됩니다.
+     *
+     * @param definition 스타일 정의
+     * @return 공유되는 CellStyle, 기본 정의이면 null
+     */
+    public CellStyle getStyle(ExcelCellStyle definition) {
+        if (definition == null || definition.isDefault()) {
+            return null;
+        }
+
+        return styles.computeIfAbsent(definition, this::createStyle);
+    }
+
+    /**
+     * 굵은 글꼴을 반환합니다. 처음 요청될 때 한 번만 생성됩니다.
+     *
+     * @return 공유되는 Font
+     */
+    public Font getBoldFont() {
+        if (boldFont == null) {
+            boldFont = workbook.createFont();
+            boldFont.setBold(true);
+        }
+
+        return boldFont;
+    }
+
+    /**
+     * 기본 헤더 스타일을 반환합니다. 처음 요청될 때 한 번만 생성됩니다.
+     *
+     * @return 공유되는 헤더 스타일
+     */
+    public CellStyle getHeaderStyle() {
+        if (headerStyle == null) {
+            headerStyle = createHeaderStyle();
+        }
+
+        return headerStyle;
+    }
+
+    /**
+     * 스타일 정의로부터 새로운 CellStyle을 생성합니다.
+     *
+     * @param definition 스타일 정의
+     * @return 생성된 CellStyle
+     */
+    private CellStyle createStyle(ExcelCellStyle definition) {
+        CellStyle style = workbook.createCellStyle();
+
+        if (!definition.getFormat().isEmpty()) {
+            style.setDataFormat(dataFormat.getFormat(definition.getFormat()));
+        }
+
+        if (definition.isBold()) {
+            style.setFont(getBoldFont());
+        }
+
+        if (definition.isBorder()) {
+            setThinBorder(style);
+        }
+
+        style.setAlignment(definition.getAlignment());
+
+        return style;
+    }
+
+    /**
+     * 기본 헤더 스타일을 생성합니다.
+     *
+     * @return 생성된 헤더 스타일
+     */
+    private CellStyle createHeaderStyle() {
+        CellStyle style = workbook.createCellStyle();
+
+        style.setFont(getBoldFont()); // bold 스타일 설정
+        style.setFillForegroundColor(GREY_25_PERCENT.getIndex()); // 헤더 색상 설정
+        style.setFillPattern(SOLID_FOREGROUND); // 색상 패턴 설정
+
+        setThinBorder(style);
+
+        // 정렬 설정
+        style.setAlignment(HorizontalAlignment.CENTER);
+        style.setVerticalAlignment(VerticalAlignment.CENTER);
+
+        return style;
+    }
+
+    /**
+     * 네 방향에 검은색 얇은 테두리를 설정합니다.
+     *
+     * @param style 테두리를 설정할 CellStyle
+     */
+    private static void setThinBorder(CellStyle style) {
+        style.setBorderBottom(THIN);
+        style.setBottomBorderColor(BLACK.getIndex());
+        style.setBorderLeft(THIN);
+        style.setLeftBorderColor(BLACK.getIndex());
+        style.setBorderRight(THIN);
+        style.setRightBorderColor(BLACK.getIndex());
+        style.setBorderTop(THIN);
+        style.setTopBorderColor(BLACK.getIndex());
+    }
+}
@@ -0,0 +1,408 @@
+package io.bareun.base.file.util;
+
+import io.bareun.base.file.schema.ExcelRowBinder;
+import io.bareun.base.file.schema.ExcelSchema;
+import io.bareun.base.file.writer.CsvOptions;
+import io.bareun.base.file.writer.ExcelWriter;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * CsvFileUtils 클래스는 CSV/TSV 파일 관련 유틸리티 기능을 제공합니다.
+ * <p>
+ * {@link ExcelWriter}와 {@link io.bareun.base.file.annotation.ExcelHeader} 정보를 그대로 사용하며,
+ * 워크북 모델이나 셀 스타일 없이 버퍼링된 {@link Writer}에 바로 작성하므로 단순한 표 데이터는 엑셀보다 훨씬 빠르게 처리됩니다.
+ * 값에 구분자, 큰따옴표, 줄바꿈이 있으면 RFC 4180 규칙에 따라 큰따옴표로 감쌉니다.
+ */
+public class CsvFileUtils {
+
+    /**
+     * 값을 감싸는 큰따옴표
+     */
+    private static final char QUOTE = '"';
+
+    /**
+     * UTF 바이트 순서 표식
+     */
+    private static final char BOM = '\uFEFF';
+
+    /**
+     * ExcelWriter의 데이터를 CSV/TSV 형식으로 OutputStream에 작성합니다.
+     * 스트림은 닫지 않으며, 호출한 쪽에서 관리합니다.
+     *
+     * @param excelWriter 작성할 데이터를 제공하는 ExcelWriter 인스턴스
+     * @param stream      파일을 작성할 OutputStream
+     * @param options     CSV 작성 옵션
+     * @param <T>         파일에 쓰일 데이터의 타입
+     * @return 작성한 본문 행 개수
+     */
+    public static <T> long write(ExcelWriter<T> excelWriter, OutputStream stream, CsvOptions options) {
+        try {
+            GZIPOutputStream gzip = options.isGzip() ? new GZIPOutputStream(new UncloseableOutputStream(stream), 8192) : null;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(gzip != null ? gzip : stream, options.getCharset()), options.getBufferSize());
+
+            long rows = write(excelWriter, writer, options);
+
+            writer.flush();
+
+            if (gzip != null) {
+                gzip.close();
+            }
+
+            return rows;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write csv file", e);
+        }
+    }
+
+    /**
+     * ExcelWriter의 데이터를 CSV/TSV 형식으로 Writer에 작성합니다.
+     * Writer는 flush 하거나 닫지 않습니다.
+     *
+     * @param excelWriter 작성할 데이터를 제공하는 ExcelWriter 인스턴스
+     * @param writer      파일을 작성할 Writer
+     * @param options     CSV 작성 옵션
+     * @param <T>         파일에 쓰일 데이터의 타입
+     * @return 작성한 본문 행 개수
+     * @throws IOException 작성에 실패한 경우
+     */
+    public static <T> long write(ExcelWriter<T> excelWriter, Writer writer, CsvOptions options) throws IOException {
+        ExcelSchema schema = excelWriter.getSchema();
+        char delimiter = options.getDelimiter();
+        String lineSeparator = options.getLineSeparator();
+        int size = schema.size();
+        long rows = 0;
+        boolean fieldValueHook = excelWriter.useFieldValue();
+
+        if (options.isBom()) {
+            writer.write(BOM);
+        }
+
+        for (int a = 0; a < size; a++) {
+            if (a > 0) {
+                writer.write(delimiter);
+            }
+
+            writeValue(writer, schema.getHeaderName(a), delimiter);
+        }
+
+        writer.write(lineSeparator);
+
+        try (Stream<T> stream = excelWriter.getRowStream()) {
+            Iterator<T> iterator = stream.iterator();
+
+            while (iterator.hasNext()) {
+                T column = iterator.next();
+
+                for (int a = 0; a < size; a++) {
+                    if (a > 0) {
+                        writer.write(delimiter);
+                    }
+
+                    Object value = fieldValueHook
+                            ? schema.getColumn(a).toCellValue(excelWriter.getFieldValue(column, a))
+                            : schema.getColumn(a).getCellValue(column);
+
+                    writeValue(writer, toText(value), delimiter);
+                }
+
+                writer.write(lineSeparator);
+                rows++;
+            }
+        }
+
+        return rows;
+    }
+
+    /**
+     * 업로드된 CSV/TSV 파일을 한 행씩 읽어 지정된 타입으로 변환한 뒤 consumer에 전달합니다.
+     *
+     * @param file     CSV/TSV 파일
+     * @param type     변환할 데이터의 클래스 타입
+     * @param consumer 변환된 행을 처리할 consumer
+     * @param options  CSV 읽기 옵션
+     * @param <T>      변환할 데이터의 타입
+     */
+    public static <T> void read(MultipartFile file, Class<T> type, Consumer<T> consumer, CsvOptions options) {
+        try (InputStream stream = file.getInputStream()) {
+            read(stream, type, consumer, options);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read csv file", e);
+        }
+    }
+
+    /**
+     * CSV/TSV 스트림을 한 행씩 읽어 지정된 타입으로 변환한 뒤 consumer에 전달합니다.
+     * <p>
+     * 첫 행은 헤더로 사용하여 {@link ExcelRowBinder}로 한 번만 해석하며, 빈 행은 건너뜁니다.
+     * 변환에 실패하면 헤더를 포함한 행 순번(큰따옴표 안의 줄바꿈은 행으로 세지 않음)을 예외 메시지에 포함합니다.
+     * 스트림은 닫지 않으며, 호출한 쪽에서 관리합니다.
+     *
+     * @param stream   CSV/TSV 입력 스트림
+     * @param type     변환할 데이터의 클래스 타입
+     * @param consumer 변환된 행을 처리할 consumer
+     * @param options  CSV 읽기 옵션
+     * @param <T>      변환할 데이터의 타입
+     */
+    public static <T> void read(InputStream stream, Class<T> type, Consumer<T> consumer, CsvOptions options) {
+        try {
+            InputStream source = options.isGzip() ? new GZIPInputStream(stream, 8192) : stream;
+            Reader reader = new BufferedReader(new InputStreamReader(source, options.getCharset()), options.getBufferSize());
+            CsvParser parser = new CsvParser(reader, options.getDelimiter());
+
+            List<String> headers = parser.next();
+
+            if (headers == null) {
+                return;
+            }
+
+            if (!headers.isEmpty() && !headers.get(0).isEmpty() && headers.get(0).charAt(0) == BOM) {
+                headers.set(0, headers.get(0).substring(1));
+            }
+
+            ExcelRowBinder<T> binder = ExcelSchema.of(type).binder(headers);
+            List<String> values;
+            int rowNum = 0;
+
+            while ((values = parser.next()) != null) {
+                rowNum++;
+
+                if (values.size() == 1 && values.get(0).isEmpty()) {
+                    continue;
+                }
+
+                consumer.accept(binder.bind(rowNum, values.toArray()));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read csv file", e);
+        }
+    }
+
+    /**
+     * 값을 작성합니다. 구분자, 큰따옴표, 줄바꿈이 있으면 큰따옴표로 감싸고 내부 큰따옴표는 두 번 씁니다.
+     *
+     * @param writer    파일을 작성할 Writer
+     * @param value     작성할 값
+     * @param delimiter 값 구분자
+     * @throws IOException 작성에 실패한 경우
+     */
+    private static void writeValue(Writer writer, String value, char delimiter) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+
+        int length = value.length();
+        boolean quote = false;
+
+        for (int a = 0; a < length; a++) {
+            char c = value.charAt(a);
+
+            if (c == delimiter || c == QUOTE || c == '\n' || c == '\r') {
+                quote = true;
+                break;
+            }
+        }
+
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write(QUOTE);
+
+        for (int a = 0; a < length; a++) {
+            char c = value.charAt(a);
+
+            if (c == QUOTE) {
+                writer.write(QUOTE);
+            }
+
+            writer.write(c);
+        }
+
+        writer.write(QUOTE);
+    }
+
+    /**
+     * 필드 값을 CSV 문자열로 변환합니다. 날짜는 ISO-8601 형식으로 작성하여 다시 읽을 수 있도록 합니다.
+     * 실수는 지수 표기({@code 1E+3}) 없이 작성합니다.
+     *
+     * @param value 필드 값
+     * @return 변환된 문자열, null이면 null
+     */
+    private static String toText(Object value) {
+        if (value == null) {
+            return null;
+        } else if (value instanceof String) {
+            return (String) value;
+        } else if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        } else if (value instanceof Double || value instanceof Float) {
+            return toPlainText((Number) value);
+        } else if (value instanceof java.sql.Date) {
+            return value.toString();
+        } else if (value instanceof Date) {
+            return LocalDateTime.ofInstant(((Date) value).toInstant(), ZoneId.systemDefault()).toString();
+        }
+
+        return value.toString();
+    }
+
+    /**
+     * 실수 값을 지수 표기 없는 문자열로 변환합니다. 소수점 아래의 0은 제거합니다.
+     *
+     * @param value Double 또는 Float 값
+     * @return 변환된 문자열, NaN과 무한대는 {@link Object#toString()}의 결과
+     */
+    private static String toPlainText(Number value) {
+        double number = value.doubleValue();
+
+        if (Double.isNaN(number) || Double.isInfinite(number)) {
+            return value.toString();
+        }
+
+        return new BigDecimal(value.toString()).stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * CsvParser 클래스는 Reader에서 RFC 4180 형식의 행을 하나씩 읽는 파서입니다.
+     * 큰따옴표로 감싼 값 안의 구분자와 줄바꿈을 지원합니다.
+     */
+    private static class CsvParser {
+
+        /**
+         * 행을 읽을 Reader (mark를 지원해야 함)
+         */
+        private final Reader reader;
+
+        /**
+         * 값 구분자
+         */
+        private final char delimiter;
+
+        /**
+         * 읽고 있는 값의 버퍼
+         */
+        private final StringBuilder buffer = new StringBuilder();
+
+        /**
+         * 입력의 끝에 도달했는지 여부
+         */
+        private boolean eof;
+
+        CsvParser(Reader reader, char delimiter) {
+            this.reader = reader;
+            this.delimiter = delimiter;
+        }
+
+        /**
+         * 다음 행을 읽어 값 목록으로 반환합니다.
+         *
+         * @return 행의 값 목록, 더 이상 행이 없으면 null
+         * @throws IOException 읽기에 실패한 경우
+         */
+        List<String> next() throws IOException {
+            if (eof) {
+                return null;
+            }
+
+            List<String> values = new ArrayList<>();
+            boolean quoted = false;
+            boolean empty = true;
+            buffer.setLength(0);
+
+            while (true) {
+                int read = reader.read();
+
+                if (read < 0) {
+                    eof = true;
+
+                    if (empty && values.isEmpty()) {
+                        return null;
+                    }
+
+                    values.add(buffer.toString());
+                    return values;
+                }
+
+                char c = (char) read;
+                empty = false;
+
+                if (quoted) {
+                    if (c == QUOTE) {
+                        reader.mark(1);
+
+                        if (reader.read() == QUOTE) {
+                            buffer.append(QUOTE);
+                        } else {
+                            reader.reset();
+                            quoted = false;
+                        }
+                    } else {
+                        buffer.append(c);
+                    }
+                } else if (c == QUOTE) {
+                    quoted = true;
+                } else if (c == delimiter) {
+                    values.add(buffer.toString());
+                    buffer.setLength(0);
+                } else if (c == '\n') {
+                    values.add(buffer.toString());
+                    return values;
+                } else if (c == '\r') {
+                    reader.mark(1);
+
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+
+                    values.add(buffer.toString());
+                    return values;
+                } else {
+                    buffer.append(c);
+                }
+            }
+        }
+    }
+
+    /**
+     * UncloseableOutputStream 클래스는 gzip 스트림을 종료할 때 원본 스트림이 닫히지 않도록 감싸는 OutputStream입니다.
+     */
+    private static class UncloseableOutputStream extends FilterOutputStream {
+
+        UncloseableOutputStream(OutputStream stream) {
+            super(stream);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package io.bareun.base.file.util;
+
+import io.bareun.base.file.style.ExcelStyleRegistry;
+import io.bareun.base.file.writer.ExcelExportOptions;
+import org.apache.poi.xssf.streaming.GZIPSheetDataWriter;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.streaming.SheetDataWriter;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ExcelExportWorkbook 클래스는 {@link ExcelExportOptions}의 윈도우 크기, 임시 파일 압축, 임시 디렉토리를 적용한 SXSSFWorkbook입니다.
+ * <p>
+ * 시트마다 생성되는 임시 파일을 추적하여 작성된 임시 파일 크기를 집계할 수 있습니다.
+ * 임시 파일은 사용이 끝나면 {@link #dispose()}로 삭제해야 합니다.
+ */
+class ExcelExportWorkbook extends SXSSFWorkbook {
+
+    /**
+     * 임시 파일을 생성할 디렉토리, 없으면 시스템 기본 임시 디렉토리
+     */
+    private final File tempDirectory;
+
+    /**
+     * 시트마다 생성된 임시 파일
+     */
+    private final List<File> tempFiles = new ArrayList<>();
+
+    /**
+     * 워크북 단위로 공유하는 스타일 저장소
+     */
+    private ExcelStyleRegistry styleRegistry;
+
+    /**
+     * 주어진 옵션으로 ExcelExportWorkbook을 생성합니다.
+     *
+     * @param options 엑셀 파일 작성 옵션
+     */
+    ExcelExportWorkbook(ExcelExportOptions options) {
+        super(null, options.getWindowSize(), options.isCompressTempFiles());
+        this.tempDirectory = options.getTempDirectory() != null ? new File(options.getTempDirectory()) : null;
+    }
+
+    /**
+     * 워크북의 스타일 저장소를 반환합니다. 처음 요청될 때 한 번만 생성됩니다.
+     *
+     * @return 스타일 저장소
+     */
+    ExcelStyleRegistry getStyleRegistry() {
+        if (styleRegistry == null) {
+            styleRegistry = ExcelStyleRegistry.of(this);
+        }
+
+        return styleRegistry;
+    }
+
+    /**
+     * 지금까지 작성된 임시 파일의 전체 크기(byte)를 반환합니다.
+     * {@link #dispose()} 이전에 호출해야 합니다.
+     *
+     * @return 임시 파일의 전체 크기
+     */
+    long getTempBytes() {
+        long bytes = 0;
+
+        for (File file : tempFiles) {
+            bytes += file.length();
+        }
+
+        return bytes;
+    }
+
+    /**
+     * 시트 데이터를 작성할 SheetDataWriter를 생성합니다.
+     * 임시 파일은 지정된 임시 디렉토리에 생성되며, 생성된 파일은 추적됩니다.
+     *
+     * @return SheetDataWriter 인스턴스
+     * @throws IOException 임시 파일을 생성할 수 없는 경우
+     */
+    @Override
+    protected SheetDataWriter createSheetDataWriter() throws IOException {
+        if (isCompressTempFiles()) {
+            return new GZIPSheetDataWriter() {
+                @Override
+                public File createTempFile() throws IOException {
+                    return track(tempDirectory != null ? File.createTempFile("poi-sxssf-sheet-xml", ".gz", tempDirectory) : super.createTempFile());
+                }
+            };
+        }
+
+        return new SheetDataWriter() {
+            @Override
+            public File createTempFile() throws IOException {
+                return track(tempDirectory != null ? File.createTempFile("poi-sxssf-sheet", ".xml", tempDirectory) : super.createTempFile());
+            }
+        };
+    }
+
+    /**
+     * 생성된 임시 파일을 추적 목록에 추가합니다.
+     *
+     * @param file 생성된 임시 파일
+     * @return 주어진 임시 파일
+     */
+    private File track(File file) {
+        tempFiles.add(file);
+        return file;
+    }
+}
@@ -1,32 +1,38 @@
 package io.bareun.base.file.util;
 
+import io.bareun.base.file.reader.ExcelStreamReader;
+import io.bareun.base.file.schema.ExcelRowBinder;
+import io.bareun.base.file.schema.ExcelSchema;
+import io.bareun.base.file.style.ExcelStyleRegistry;
+import io.bareun.base.file.writer.ExcelExportOptions;
+import io.bareun.base.file.writer.ExcelExportResult;
 import io.bareun.base.file.writer.ExcelWriter;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.ss.util.WorkbookUtil;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
-import java.sql.Date;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
-import static io.bareun.base.common.util.ObjectMapperUtils.convert;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.IntStream.rangeClosed;
-import static org.apache.poi.ss.usermodel.BorderStyle.THIN;
-import static org.apache.poi.ss.usermodel.FillPatternType.SOLID_FOREGROUND;
-import static org.apache.poi.ss.usermodel.IndexedColors.BLACK;
-import static org.apache.poi.ss.usermodel.IndexedColors.GREY_25_PERCENT;
 
 /**
  * ExcelFileUtils 클래스는 엑셀 파일 관련 유틸리티 기능을 제공합니다.
  * 엑셀 파일의 읽기 및 쓰기 기능을 포함하며, 특정 포맷에 맞춰서 데이터를 읽고 쓸 수 있습니다.
  */
+@Slf4j
 public class ExcelFileUtils {
 
     /**
@@ -40,35 +46,23 @@ public class ExcelFileUtils {
     public static final int BODY_START_INDEX = 1;
 
     /**
-     * 엑셀 파일의 기본 헤더 스타일을 생성하여 반환합니다.
+     * 엑셀 시트 이름의 최대 길이
+     */
+    private static final int MAX_SHEET_NAME_LENGTH = 31;
+
+    /**
+     * 엑셀 파일의 기본 헤더 스타일을 반환합니다.
+     * {@link #write(List, OutputStream, ExcelExportOptions)}로 작성 중인 워크북이면 워크북의 스타일 저장소에서 하나의 스타일을 공유합니다.
      *
      * @param workbook 헤더 스타일이 적용될 Workbook 인스턴스
-     * @return 생성된 헤더 스타일
+     * @return 헤더 스타일
      */
     public static CellStyle getDefaultHeaderStyle(Workbook workbook) {
-        CellStyle style = workbook.createCellStyle();
-
-        Font font = workbook.createFont();
-        font.setBold(true); // bold 스타일 설정
-
-        style.setFont(font);
-        style.setFillForegroundColor(GREY_25_PERCENT.getIndex()); // 헤더 색상 설정
-        style.setFillPattern(SOLID_FOREGROUND); // 색상 패턴 설정
-
-        style.setBorderBottom(THIN);
-        style.setBottomBorderColor(BLACK.getIndex());
-        style.setBorderLeft(THIN);
-        style.setLeftBorderColor(BLACK.getIndex());
-        style.setBorderRight(THIN);
-        style.setRightBorderColor(BLACK.getIndex());
-        style.setBorderTop(THIN);
-        style.setTopBorderColor(BLACK.getIndex());
-
-        // 정렬 설정
-        style.setAlignment(HorizontalAlignment.CENTER);
-        style.setVerticalAlignment(VerticalAlignment.CENTER);
+        if (workbook instanceof ExcelExportWorkbook) {
+            return ((ExcelExportWorkbook) workbook).getStyleRegistry().getHeaderStyle();
+        }
 
-        return style;
+        return ExcelStyleRegistry.of(workbook).getHeaderStyle();
     }
 
     /**
@@ -87,37 +81,224 @@ public class ExcelFileUtils {
         }
     }
 
+    /**
+     * 엑셀 파일을 스트리밍 방식으로 한 행씩 읽어 consumer에 전달합니다.
+     * <p>
+     * 업로드 파일을 임시 파일로 저장한 뒤 {@link ExcelStreamReader}로 읽으며, 읽기가 끝나면 임시 파일을 삭제합니다.
+     * xlsx 형식만 지원합니다.
+     *
+     * @param file     엑셀 파일
+     * @param type     변환할 데이터의 클래스 타입
+     * @param consumer 변환된 행을 처리할 consumer
+     * @param <T>      변환할 데이터의 타입
+     */
+    public static <T> void read(MultipartFile file, Class<T> type, Consumer<T> consumer) {
+        File temp = FileUtils.transferToTemp(file, ".xlsx");
+
+        try {
+            read(temp, type, consumer);
+        } finally {
+            try {
+                Files.deleteIfExists(temp.toPath());
+            } catch (IOException e) {
+                log.warn("Failed to delete excel read temp file : {}", temp, e);
+            }
+        }
+    }
+
+    /**
+     * 저장된 엑셀 파일을 스트리밍 방식으로 한 행씩 읽어 consumer에 전달합니다.
+     * xlsx 형식만 지원합니다.
+     *
+     * @param file     저장된 엑셀 파일
+     * @param type     변환할 데이터의 클래스 타입
+     * @param consumer 변환된 행을 처리할 consumer
+     * @param <T>      변환할 데이터의 타입
+     */
+    public static <T> void read(File file, Class<T> type, Consumer<T> consumer) {
+        ExcelStreamReader.read(file, type, consumer);
+    }
+
     /**
      * 엑셀 파일을 쓰기 위한 메타 데이터를 바이트 배열로 반환합니다.
+     * <p>
+     * 파일 전체가 메모리에 적재되므로, 대용량 데이터는 {@link #write(ExcelWriter, OutputStream)}를 사용합니다.
      *
      * @param excelWriter Excel 파일 쓰기 작업을 수행하는 ExcelWriter 인스턴스
      * @param <T>         Excel 파일에 쓰일 데이터의 타입
      * @return 생성된 엑셀 파일의 바이트 배열
      */
     public static <T> byte[] write(ExcelWriter<T> excelWriter) {
-        try (Workbook workbook = new SXSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet();
-            writeHeader(sheet, excelWriter);
-            writeBody(sheet, excelWriter);
-            return writeMetaData(workbook);
+        try (ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
+            write(excelWriter, stream);
+            return stream.toByteArray();
         } catch (IOException e) {
-            throw new IllegalStateException("Failed to write excel file", e);
+            throw new IllegalStateException("Failed to write meta data", e);
         }
     }
 
     /**
-     * Workbook에서 생성된 엑셀 파일의 바이트 배열을 반환합니다.
+     * 엑셀 파일을 주어진 OutputStream에 직접 작성합니다.
+     * <p>
+     * 중간 바이트 배열을 만들지 않으므로 HTTP 응답 스트림에 바로 쓰는 용도로 사용합니다.
+     * 스트림은 닫지 않으며, 호출한 쪽에서 관리합니다.
      *
-     * @param workbook Workbook 인스턴스
-     * @return 생성된 엑셀 파일의 바이트 배열
+     * @param excelWriter Excel 파일 쓰기 작업을 수행하는 ExcelWriter 인스턴스
+     * @param stream      엑셀 파일을 작성할 OutputStream
+     * @param <T>         Excel 파일에 쓰일 데이터의 타입
      */
-    private static byte[] writeMetaData(Workbook workbook) {
-        try (ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
+    public static <T> void write(ExcelWriter<T> excelWriter, OutputStream stream) {
+        write(excelWriter, stream, ExcelExportOptions.DEFAULT);
+    }
+
+    /**
+     * 주어진 옵션으로 엑셀 파일을 OutputStream에 직접 작성합니다.
+     *
+     * @param excelWriter Excel 파일 쓰기 작업을 수행하는 ExcelWriter 인스턴스
+     * @param stream      엑셀 파일을 작성할 OutputStream
+     * @param options     엑셀 파일 작성 옵션
+     * @param <T>         Excel 파일에 쓰일 데이터의 타입
+     * @return 엑셀 파일 작성 결과
+     */
+    public static <T> ExcelExportResult write(ExcelWriter<T> excelWriter, OutputStream stream, ExcelExportOptions options) {
+        return write(Collections.singletonList(excelWriter), stream, options);
+    }
+
+    /**
+     * 여러 ExcelWriter를 하나의 워크북에 시트별로 작성합니다.
+     * <p>
+     * 각 ExcelWriter는 {@link ExcelWriter#getSheetName()} 이름의 시트에 순서대로 작성되며,
+     * 모든 시트가 같은 SXSSFWorkbook 윈도우를 통해 스트리밍됩니다.
+     * 시트의 행 개수가 {@link ExcelExportOptions#getMaxRowsPerSheet()}를 넘으면 헤더를 반복하여 새 시트에 이어서 작성합니다.
+     * <p>
+     * 작성 중 생성된 임시 파일은 성공 여부와 관계없이 작성이 끝나면 삭제됩니다.
+     *
+     * @param excelWriters 시트별 ExcelWriter 목록
+     * @param stream       엑셀 파일을 작성할 OutputStream
+     * @param options      엑셀 파일 작성 옵션
+     * @return 엑셀 파일 작성 결과
+     */
+    public static ExcelExportResult write(List<? extends ExcelWriter<?>> excelWriters, OutputStream stream, ExcelExportOptions options) {
+        if (options.getMaxRowsPerSheet() <= BODY_START_INDEX) {
+            throw new IllegalArgumentException("maxRowsPerSheet must be greater than " + BODY_START_INDEX);
+        }
+
+        if (options.getWindowSize() <= 0) {
+            throw new IllegalArgumentException("windowSize must be greater than 0");
+        }
+
+        long startTime = System.currentTimeMillis();
+        ExcelExportWorkbook workbook = new ExcelExportWorkbook(options);
+
+        try {
+            ExcelStyleRegistry registry = workbook.getStyleRegistry();
+            long rows = 0;
+
+            for (ExcelWriter<?> excelWriter : excelWriters) {
+                rows += writeSheets(workbook, excelWriter, registry, options);
+            }
+
             workbook.write(stream);
-            return stream.toByteArray();
+
+            ExcelExportResult result = new ExcelExportResult(rows, workbook.getNumberOfSheets(),
+                    workbook.getTempBytes(), System.currentTimeMillis() - startTime);
+            log.debug("Excel export completed : {}", result);
+
+            return result;
         } catch (IOException e) {
-            throw new IllegalStateException("Failed to write meta data", e);
+            throw new IllegalStateException("Failed to write excel file", e);
+        } finally {
+            dispose(workbook);
+        }
+    }
+
+    /**
+     * 워크북의 임시 파일을 삭제하고 워크북을 닫습니다.
+     *
+     * @param workbook 엑셀 워크북
+     */
+    private static void dispose(ExcelExportWorkbook workbook) {
+        if (!workbook.dispose()) {
+            log.warn("Failed to delete excel export temp files");
+        }
+
+        try {
+            workbook.close();
+        } catch (IOException e) {
+            log.warn("Failed to close excel workbook", e);
+        }
+    }
+
+    /**
+     * ExcelWriter의 데이터를 시트에 작성합니다. 시트당 최대 행 개수를 넘으면 새 시트를 생성합니다.
+     *
+     * @param workbook    엑셀 워크북
+     * @param excelWriter Excel 파일 쓰기 작업을 수행하는 ExcelWriter 인스턴스
+     * @param registry    워크북의 스타일 저장소
+     * @param options     엑셀 파일 작성 옵션
+     * @param <T>         Excel 파일에 쓰일 데이터의 타입
+     * @return 작성한 본문 행 개수
+     */
+    private static <T> long writeSheets(Workbook workbook, ExcelWriter<T> excelWriter,
+                                        ExcelStyleRegistry registry, ExcelExportOptions options) {
+        ExcelSchema schema = excelWriter.getSchema();
+        CellStyle headerStyle = excelWriter.getHeaderStyle(workbook);
+        CellStyle[] styles = getBodyStyles(excelWriter, registry);
+        int maxRows = options.getMaxRowsPerSheet();
+        int sheetCount = 0;
+
+        Sheet sheet = createSheet(workbook, excelWriter.getSheetName(), sheetCount++);
+        writeHeader(sheet, excelWriter, headerStyle);
+        int index = BODY_START_INDEX;
+        long rows = 0;
+        boolean fieldValueHook = excelWriter.useFieldValue();
+
+        try (Stream<T> stream = excelWriter.getRowStream()) {
+            Iterator<T> iterator = stream.iterator();
+
+            while (iterator.hasNext()) {
+                if (index >= maxRows) {
+                    sheet = createSheet(workbook, excelWriter.getSheetName(), sheetCount++);
+                    writeHeader(sheet, excelWriter, headerStyle);
+                    index = BODY_START_INDEX;
+                }
+
+                Row row = sheet.createRow(index++);
+
+                if (fieldValueHook) {
+                    writeRow(row, iterator.next(), excelWriter, schema, styles);
+                } else {
+                    writeRow(row, iterator.next(), schema, styles);
+                }
+
+                rows++;
+            }
+        }
+
+        return rows;
+    }
+
+    /**
+     * 시트를 생성합니다. 이어지는 시트에는 이름 뒤에 순번을 붙입니다.
+     *
+     * @param workbook 엑셀 워크북
+     * @param name     시트 이름, null이면 기본 이름
+     * @param sequence 0부터 시작하는 같은 이름 시트의 순번
+     * @return 생성된 시트
+     */
+    private static Sheet createSheet(Workbook workbook, String name, int sequence) {
+        if (name == null || name.isEmpty()) {
+            return workbook.createSheet();
         }
+
+        String suffix = sequence > 0 ? " (" + (sequence + 1) + ")" : "";
+        String safeName = WorkbookUtil.createSafeSheetName(name);
+
+        if (safeName.length() + suffix.length() > MAX_SHEET_NAME_LENGTH) {
+            safeName = safeName.substring(0, MAX_SHEET_NAME_LENGTH - suffix.length());
+        }
+
+        return workbook.createSheet(safeName + suffix);
     }
 
     /**
@@ -125,45 +306,78 @@ public class ExcelFileUtils {
      *
      * @param sheet       엑셀 시트
      * @param excelWriter Excel 파일 쓰기 작업을 수행하는 ExcelWriter 인스턴스
+     * @param headerStyle 헤더 셀 스타일
      * @param <T>         Excel 파일에 쓰일 데이터의 타입
      */
-    private static <T> void writeHeader(Sheet sheet, ExcelWriter<T> excelWriter) {
+    private static <T> void writeHeader(Sheet sheet, ExcelWriter<T> excelWriter, CellStyle headerStyle) {
         Row row = sheet.createRow(HEADER_INDEX);
+        int headerSize = excelWriter.getHeaderSize();
 
-        for (int a = 0; a < excelWriter.getHeaderSize(); a++) {
+        for (int a = 0; a < headerSize; a++) {
             Cell cell = row.createCell(a);
 
-            cell.setCellStyle(excelWriter.getHeaderStyle(sheet.getWorkbook()));
+            cell.setCellStyle(headerStyle);
             cell.setCellValue(excelWriter.getHeaderName(a));
         }
     }
 
     /**
-     * Sheet에 본문을 작성합니다.
+     * 컬럼별 본문 셀 스타일을 배열로 반환합니다.
      *
-     * @param sheet       엑셀 시트
      * @param excelWriter Excel 파일 쓰기 작업을 수행하는 ExcelWriter 인스턴스
-     * @param <T>         Excel 파일에 쓰일 데이터의 타입
+     * @param registry    워크북의 스타일 저장소
+     * @return 컬럼 인덱스 순서의 셀 스타일 배열
      */
-    private static <T> void writeBody(Sheet sheet, ExcelWriter<T> excelWriter) {
-        int index = BODY_START_INDEX;
+    private static CellStyle[] getBodyStyles(ExcelWriter<?> excelWriter, ExcelStyleRegistry registry) {
+        CellStyle[] styles = new CellStyle[excelWriter.getHeaderSize()];
 
-        for (T column : excelWriter.getExcelColumns()) {
-            writeRow(sheet.createRow(index++), column, excelWriter);
+        for (int a = 0; a < styles.length; a++) {
+            styles[a] = excelWriter.getBodyStyle(registry, a);
         }
+
+        return styles;
     }
 
     /**
      * Row에 데이터를 작성합니다.
      *
+     * @param row    엑셀 Row
+     * @param column 작성할 데이터
+     * @param schema 작성할 데이터의 컬럼 정보
+     * @param styles 컬럼별 셀 스타일
+     */
+    private static void writeRow(Row row, Object column, ExcelSchema schema, CellStyle[] styles) {
+        for (int a = 0; a < schema.size(); a++) {
+            Cell cell = row.createCell(a);
+
+            if (styles[a] != null) {
+                cell.setCellStyle(styles[a]);
+            }
+
+            schema.getColumn(a).writeCell(cell, column);
+        }
+    }
+
+    /**
+     * {@link ExcelWriter#getFieldValue}를 통해 Row에 데이터를 작성합니다.
+     * ExcelWriter의 {@link ExcelWriter#useFieldValue()}가 true인 경우에 사용됩니다.
+     *
      * @param row         엑셀 Row
      * @param column      작성할 데이터
-     * @param excelWriter Excel 파일 쓰기 작업을 수행하는 ExcelWriter 인스턴스
+     * @param excelWriter 필드 값을 제공하는 ExcelWriter 인스턴스
+     * @param schema      작성할 데이터의 컬럼 정보
+     * @param styles      컬럼별 셀 스타일
      * @param <T>         Excel 파일에 쓰일 데이터의 타입
      */
-    private static <T> void writeRow(Row row, T column, ExcelWriter<T> excelWriter) {
-        for (int a = 0; a < excelWriter.getHeaderSize(); a++) {
-            setCellValue(row.createCell(a), excelWriter.getFieldValue(column, a));
+    private static <T> void writeRow(Row row, T column, ExcelWriter<T> excelWriter, ExcelSchema schema, CellStyle[] styles) {
+        for (int a = 0; a < schema.size(); a++) {
+            Cell cell = row.createCell(a);
+
+            if (styles[a] != null) {
+                cell.setCellStyle(styles[a]);
+            }
+
+            schema.getColumn(a).writeValue(cell, excelWriter.getFieldValue(column, a));
         }
     }
 
@@ -176,81 +390,79 @@ public class ExcelFileUtils {
      * @return 읽어온 데이터 리스트
      */
     private static <T> List<T> readSheet(Sheet sheet, Class<T> type) {
+        Row header = sheet.getRow(HEADER_INDEX);
+
+        if (header == null) {
+            return new ArrayList<>();
+        }
+
+        ExcelRowBinder<T> binder = ExcelSchema.of(type).binder(readHeader(header));
+
         return rangeClosed(BODY_START_INDEX, sheet.getLastRowNum())
                 .mapToObj(sheet::getRow)
-                .map(ExcelFileUtils::readCell)
-                .map(m -> convert(m, type))
+                .filter(Objects::nonNull)
+                .map(row -> binder.bind(row.getRowNum(), readCell(row, binder.size())))
                 .collect(toList());
     }
 
     /**
-     * Row의 셀 데이터를 Map 형태로 반환합니다.
+     * 헤더 Row의 셀 값을 컬럼 인덱스 순서의 목록으로 반환합니다.
      *
-     * @param row 엑셀 Row
-     * @return 셀 데이터를 담고 있는 Map
+     * @param row 헤더 Row
+     * @return 컬럼 인덱스 순서의 헤더 이름 목록 (비어 있는 컬럼은 null)
      */
-    private static Map<String, Object> readCell(Row row) {
-        Map<String, Object> map = new HashMap<>();
-        Iterator<Cell> cellIterator = row.cellIterator();
+    private static List<String> readHeader(Row row) {
+        List<String> headers = new ArrayList<>();
 
-        while (cellIterator.hasNext()) {
-            Cell cell = cellIterator.next();
-            map.put(getCellKey(cell), getCellValue(cell));
+        for (int a = 0; a < Math.max(row.getLastCellNum(), 0); a++) {
+            Cell cell = row.getCell(a);
+            headers.add(cell != null ? cell.getStringCellValue() : null);
         }
 
-        return map;
+        return headers;
     }
 
     /**
-     * 셀의 헤더 키 값을 반환합니다.
+     * Row의 셀 데이터를 컬럼 인덱스 순서의 배열로 반환합니다.
      *
-     * @param cell 셀
-     * @return 헤더 키 값
+     * @param row  엑셀 Row
+     * @param size 헤더의 개수
+     * @return 셀 데이터를 담고 있는 배열
      */
-    private static String getCellKey(Cell cell) {
-        return cell.getSheet().getRow(HEADER_INDEX).getCell(cell.getColumnIndex()).getStringCellValue();
+    private static Object[] readCell(Row row, int size) {
+        Object[] values = new Object[size];
+        Iterator<Cell> cellIterator = row.cellIterator();
+
+        while (cellIterator.hasNext()) {
+            Cell cell = cellIterator.next();
+
+            if (cell.getColumnIndex() < size) {
+                values[cell.getColumnIndex()] = getCellValue(cell);
+            }
+        }
+
+        return values;
     }
 
     /**
      * 셀의 값에 따라 적절한 데이터 형식으로 반환합니다.
+     * 수식 셀은 {@link ExcelStreamReader}와 같이 저장된 계산 결과를 반환합니다.
      *
      * @param cell 셀
      * @return 셀의 값
      */
     private static Object getCellValue(Cell cell) {
-        switch (cell.getCellType()) {
+        CellType type = cell.getCellType() == CellType.FORMULA ? cell.getCachedFormulaResultType() : cell.getCellType();
+
+        switch (type) {
             case STRING:
                 return cell.getStringCellValue();
             case NUMERIC:
-                return cell.getNumericCellValue();
+                return DateUtil.isCellDateFormatted(cell) ? cell.getLocalDateTimeCellValue() : cell.getNumericCellValue();
             case BOOLEAN:
                 return cell.getBooleanCellValue();
-            case FORMULA:
-                return cell.getCellFormula();
             default:
                 return "";
         }
     }
-
-    /**
-     * 셀에 값을 설정합니다.
-     *
-     * @param cell       셀
-     * @param fieldValue 설정할 값
-     */
-    private static void setCellValue(Cell cell, Object fieldValue) {
-        if (fieldValue instanceof Number) {
-            cell.setCellValue(((Number) fieldValue).doubleValue());
-        } else if (fieldValue instanceof Boolean) {
-            cell.setCellValue((Boolean) fieldValue);
-        } else if (fieldValue instanceof Date) {
-            cell.setCellValue((Date) fieldValue);
-        } else if (fieldValue instanceof LocalDateTime) {
-            cell.setCellValue((LocalDateTime) fieldValue);
-        } else if (fieldValue instanceof LocalDate) {
-            cell.setCellValue((LocalDate) fieldValue);
-        } else {
-            cell.setCellValue(fieldValue.toString());
-        }
-    }
 }
@@ -7,7 +7,9 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UnsupportedEncodingException;
 import java.net.MalformedURLException;
+import java.net.URLEncoder;
 
 /**
  * FileUtils 클래스는 파일 관련 유틸리티 기능을 제공합니다.
@@ -47,6 +49,24 @@ public class FileUtils {
         }
     }
 
+    /**
+     * MultipartFile을 임시 파일로 저장하고 저장된 파일을 반환합니다.
+     * 임시 파일은 사용이 끝나면 호출한 쪽에서 삭제해야 합니다.
+     *
+     * @param file   저장할 파일
+     * @param suffix 임시 파일 확장자 (예: ".xlsx")
+     * @return 저장된 임시 파일
+     */
+    public static File transferToTemp(MultipartFile file, String suffix) {
+        try {
+            File temp = File.createTempFile("upload", suffix);
+            file.transferTo(temp);
+            return temp;
+        } catch (IOException e) {
+            throw new IllegalStateException("Fail upload ", e);
+        }
+    }
+
     /**
      * 지정된 파일 경로의 리소스를 반환합니다.
      *
@@ -60,4 +80,19 @@ public class FileUtils {
             throw new IllegalStateException("Fail get resource ", e);
         }
     }
+
+    /**
+     * 다운로드 파일명을 UTF-8로 인코딩하여 반환합니다.
+     *
+     * @param fileName 파일 이름
+     * @return 인코딩된 파일명
+     * @throws IllegalStateException 인코딩 지원되지 않는 경우
+     */
+    public static String encodeFileName(String fileName) {
+        try {
+            return URLEncoder.encode(fileName, "UTF-8").replaceAll("\\+", "%20");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException("Unsupported encoding", e);
+        }
+    }
 }
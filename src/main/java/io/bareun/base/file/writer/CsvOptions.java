@@ -0,0 +1,68 @@
+package io.bareun.base.file.writer;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CsvOptions 클래스는 CSV/TSV 파일 읽기 및 쓰기 옵션을 정의합니다.
+ */
+@Getter
+@Builder
+public class CsvOptions {
+
+    /**
+     * 쉼표로 구분하는 CSV 기본 옵션
+     */
+    public static final CsvOptions CSV = CsvOptions.builder().build();
+
+    /**
+     * 탭으로 구분하는 TSV 기본 옵션
+     */
+    public static final CsvOptions TSV = CsvOptions.builder().delimiter('\t').build();
+
+    /**
+     * 값 구분자, 기본값은 쉼표(,)
+     */
+    @Builder.Default
+    private final char delimiter = ',';
+
+    /**
+     * 문자셋, 기본값은 UTF-8
+     */
+    @Builder.Default
+    private final Charset charset = StandardCharsets.UTF_8;
+
+    /**
+     * 행 구분자, 기본값은 RFC 4180의 CRLF
+     */
+    @Builder.Default
+    private final String lineSeparator = "\r\n";
+
+    /**
+     * 파일 앞에 UTF-8 BOM을 작성할지 여부. 엑셀에서 UTF-8 CSV를 열 때 필요합니다.
+     */
+    private final boolean bom;
+
+    /**
+     * gzip 압축 여부
+     */
+    private final boolean gzip;
+
+    /**
+     * 입출력 버퍼 크기(char), 기본값은 64KB
+     */
+    @Builder.Default
+    private final int bufferSize = 64 * 1024;
+
+    /**
+     * 구분자에 따른 파일 확장자를 반환합니다.
+     *
+     * @return TSV이면 "tsv", 그 외에는 "csv"
+     */
+    public String getExtension() {
+        return delimiter == '\t' ? "tsv" : "csv";
+    }
+}
@@ -11,6 +11,17 @@ public class DefaultExcelWriter<T> implements ExcelWriter<T> {
 
     private final List<?> list;
     private final Class<T> type;
+    private final String sheetName;
+
+    /**
+     * 주어진 리스트와 클래스 타입으로 기본 시트 이름을 사용하는 DefaultExcelWriter 객체를 생성합니다.
+     *
+     * @param list 데이터 리스트
+     * @param type 데이터 객체의 클래스 타입
+     */
+    public DefaultExcelWriter(List<?> list, Class<T> type) {
+        this(list, type, null);
+    }
 
     /**
      * 주어진 리스트와 클래스 타입으로 DefaultExcelWriter 객체를 생성하여 반환합니다.
@@ -23,4 +34,17 @@ public class DefaultExcelWriter<T> implements ExcelWriter<T> {
     public static <T> DefaultExcelWriter<T> of(List<?> list, Class<T> type) {
         return new DefaultExcelWriter<>(list, type);
     }
+
+    /**
+     * 주어진 리스트, 클래스 타입과 시트 이름으로 DefaultExcelWriter 객체를 생성하여 반환합니다.
+     *
+     * @param list      데이터 리스트
+     * @param type      데이터 객체의 클래스 타입
+     * @param sheetName 시트 이름
+     * @param <T>       데이터 객체의 타입
+     * @return DefaultExcelWriter 객체
+     */
+    public static <T> DefaultExcelWriter<T> of(List<?> list, Class<T> type, String sheetName) {
+        return new DefaultExcelWriter<>(list, type, sheetName);
+    }
 }
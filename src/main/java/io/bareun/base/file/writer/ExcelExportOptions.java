@@ -0,0 +1,45 @@
+package io.bareun.base.file.writer;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * ExcelExportOptions 클래스는 엑셀 파일 작성 옵션을 정의합니다.
+ * <p>
+ * 메모리가 부족한 환경은 windowSize를 줄이고, 디스크 I/O가 병목인 환경은 compressTempFiles를 사용하거나
+ * 빠른 디스크의 tempDirectory를 지정하여 조정합니다.
+ */
+@Getter
+@Builder
+public class ExcelExportOptions {
+
+    /**
+     * 기본 옵션
+     */
+    public static final ExcelExportOptions DEFAULT = ExcelExportOptions.builder().build();
+
+    /**
+     * 시트당 최대 행 개수 (헤더 포함). 초과하면 헤더를 반복하여 새 시트에 이어서 작성합니다.
+     * 기본값은 xlsx 형식의 최대 행 개수(1,048,576)입니다.
+     */
+    @Builder.Default
+    private final int maxRowsPerSheet = SpreadsheetVersion.EXCEL2007.getMaxRows();
+
+    /**
+     * 메모리에 유지할 행 개수. 초과한 행은 임시 파일로 내려씁니다. 기본값은 100입니다.
+     */
+    @Builder.Default
+    private final int windowSize = SXSSFWorkbook.DEFAULT_WINDOW_SIZE;
+
+    /**
+     * 임시 파일 gzip 압축 여부. 디스크 사용량과 I/O는 줄지만 CPU 사용량이 늘어납니다.
+     */
+    private final boolean compressTempFiles;
+
+    /**
+     * 임시 파일을 생성할 디렉토리, null이면 시스템 임시 디렉토리
+     */
+    private final String tempDirectory;
+}
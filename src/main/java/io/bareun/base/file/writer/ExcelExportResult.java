@@ -0,0 +1,34 @@
+package io.bareun.base.file.writer;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * ExcelExportResult 클래스는 엑셀 파일 작성 결과와 지표를 나타냅니다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ExcelExportResult {
+
+    /**
+     * 작성한 본문 행 개수 (헤더 제외)
+     */
+    private final long rows;
+
+    /**
+     * 작성한 시트 개수
+     */
+    private final int sheets;
+
+    /**
+     * 작성 중 임시 파일에 기록된 크기(byte)
+     */
+    private final long tempBytes;
+
+    /**
+     * 작성에 걸린 시간(ms)
+     */
+    private final long elapsedMillis;
+}
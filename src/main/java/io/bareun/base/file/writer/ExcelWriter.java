@@ -1,19 +1,18 @@
 package io.bareun.base.file.writer;
 
 import io.bareun.base.file.annotation.ExcelHeader;
+import io.bareun.base.file.schema.ExcelColumn;
+import io.bareun.base.file.schema.ExcelSchema;
+import io.bareun.base.file.style.ExcelStyleRegistry;
 import io.bareun.base.file.util.ExcelFileUtils;
 import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.Workbook;
 
 import java.lang.reflect.Field;
-import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.stream.Stream;
 
-import static io.bareun.base.common.util.ObjectMapperUtils.convert;
-import static java.util.Collections.addAll;
-import static java.util.Comparator.comparingInt;
-import static java.util.Objects.nonNull;
 import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
 
@@ -41,33 +40,98 @@ public interface ExcelWriter<T> {
      */
     Class<T> getType();
 
+    /**
+     * Excel 시트의 이름을 반환합니다. 기본적으로 null이며, 이 경우 기본 시트 이름을 사용합니다.
+     *
+     * @return Excel 시트의 이름
+     */
+    default String getSheetName() {
+        return null;
+    }
+
+    /**
+     * Excel 파일에 작성할 객체의 컬럼 정보를 반환합니다.
+     * 컬럼 정보는 클래스마다 한 번만 생성되어 캐싱됩니다.
+     *
+     * @return Excel 파일에 작성할 객체의 ExcelSchema
+     */
+    default ExcelSchema getSchema() {
+        return ExcelSchema.of(getType());
+    }
+
     /**
      * 지정된 객체의 특정 인덱스에 해당하는 필드 값을 반환합니다.
+     * 재정의하면 {@link #useFieldValue()}도 true를 반환하도록 재정의해야 셀이 이 메서드가 반환한 값으로 작성됩니다.
      *
      * @param column 객체
      * @param index  필드 인덱스
      * @return 필드 값
      */
     default Object getFieldValue(T column, int index) {
-        Field field = getExcelFields().get(index);
-        field.setAccessible(true);
+        return getSchema().getValue(column, index);
+    }
 
-        try {
-            return field.get(column);
-        } catch (IllegalAccessException e) {
-            throw new IllegalStateException("Cannot access field " + field.getName(), e);
-        }
+    /**
+     * 셀 값을 {@link #getFieldValue(Object, int)}로 작성할지 여부를 반환합니다.
+     * 기본적으로 false이며, 이 경우 셀 값은 {@link #getSchema()}의 컬럼에서 바로 읽습니다.
+     *
+     * @return getFieldValue로 작성하면 true
+     */
+    default boolean useFieldValue() {
+        return false;
+    }
+
+    /**
+     * Excel 파일에 작성할 원본 데이터 스트림을 반환합니다.
+     * 기본적으로 {@link #getList()}의 스트림을 반환하며, 커서 등 지연 조회가 필요한 경우 재정의합니다.
+     *
+     * @return Excel 파일에 작성할 원본 데이터 스트림
+     */
+    default Stream<?> getStream() {
+        return getList().stream();
+    }
+
+    /**
+     * Excel 파일에 작성할 객체들의 스트림을 반환합니다.
+     * <p>
+     * 각 행은 소비될 때 하나씩 변환되며, 이미 {@link #getType()} 타입인 객체는 변환 없이 그대로 사용됩니다.
+     *
+     * @return Excel 파일에 작성할 객체들의 스트림
+     */
+    default Stream<T> getExcelStream() {
+        ExcelSchema schema = getSchema();
+        return getStream().map(schema::bind);
     }
 
     /**
      * Excel 파일에 작성할 객체들의 리스트를 반환합니다.
+     * 재정의하면 {@link #useExcelColumns()}도 true를 반환하도록 재정의해야 {@link #getExcelStream()} 대신 이 리스트의 객체들이 작성됩니다.
      *
      * @return Excel 파일에 작성할 객체들의 리스트
      */
     default List<T> getExcelColumns() {
-        return getList().stream()
-                .map(v -> convert(v, getType()))
-                .collect(toList());
+        try (Stream<T> stream = getExcelStream()) {
+            return stream.collect(toList());
+        }
+    }
+
+    /**
+     * 작성할 행을 {@link #getExcelColumns()}에서 얻을지 여부를 반환합니다.
+     * 기본적으로 false이며, 이 경우 행은 {@link #getExcelStream()}에서 하나씩 얻습니다.
+     *
+     * @return getExcelColumns로 작성하면 true
+     */
+    default boolean useExcelColumns() {
+        return false;
+    }
+
+    /**
+     * 작성할 행 스트림을 반환합니다. {@link #useExcelColumns()}가 true이면 {@link #getExcelColumns()}의 스트림을 반환합니다.
+     *
+     * @return 작성할 행 스트림
+     */
+    default Stream<T> getRowStream() {
+        return useExcelColumns() ? getExcelColumns().stream() : getExcelStream();
     }
 
     /**
@@ -80,6 +144,18 @@ public interface ExcelWriter<T> {
         return ExcelFileUtils.getDefaultHeaderStyle(workbook);
     }
 
+    /**
+     * 주어진 인덱스에 해당하는 본문 셀의 스타일을 반환합니다.
+     * 기본적으로 {@link ExcelHeader}의 스타일 속성으로 공유 스타일을 조회합니다.
+     *
+     * @param registry 워크북의 스타일 저장소
+     * @param index    컬럼 인덱스
+     * @return 본문 셀의 스타일, 지정된 스타일이 없으면 null
+     */
+    default CellStyle getBodyStyle(ExcelStyleRegistry registry, int index) {
+        return registry.getStyle(getSchema().getColumn(index).getStyle());
+    }
+
     /**
      * 주어진 인덱스에 해당하는 헤더의 이름을 반환합니다.
      *
@@ -87,7 +163,7 @@ public interface ExcelWriter<T> {
      * @return 헤더의 이름
      */
     default String getHeaderName(int index) {
-        return getHeaderNames().get(index);
+        return getSchema().getHeaderName(index);
     }
 
     /**
@@ -96,7 +172,7 @@ public interface ExcelWriter<T> {
      * @return 헤더의 총 개수
      */
     default int getHeaderSize() {
-        return getHeaderNames().size();
+        return getSchema().size();
     }
 
     /**
@@ -105,8 +181,8 @@ public interface ExcelWriter<T> {
      * @return Excel 파일의 헤더 이름들을 포함하는 연결 리스트
      */
     default LinkedList<String> getHeaderNames() {
-        return getExcelFields().stream()
-                .map(this::getName)
+        return getSchema().getColumns().stream()
+                .map(ExcelColumn::getName)
                 .collect(toCollection(LinkedList::new));
     }
 
@@ -116,56 +192,8 @@ public interface ExcelWriter<T> {
      * @return Excel 파일에 작성할 필드들을 포함하는 연결 리스트
      */
     default LinkedList<Field> getExcelFields() {
-		return getFields().stream()
-                .filter(this::hasAnnotation)
-                .sorted(comparingInt(this::getOrder))
+        return getSchema().getColumns().stream()
+                .map(ExcelColumn::getField)
                 .collect(toCollection(LinkedList::new));
-	}
-
-    /**
-     * Excel 파일에 작성할 필드들을 반환합니다.
-     *
-     * @return Excel 파일에 작성할 필드들
-     */
-    default List<Field> getFields() {
-        List<Field> fields = new ArrayList<>();
-
-        if (nonNull(getType().getSuperclass())) {
-            addAll(fields, getType().getSuperclass().getDeclaredFields());
-        }
-
-        addAll(fields, getType().getDeclaredFields());
-
-        return fields;
-    }
-
-    /**
-     * 주어진 필드가 Excel 헤더 어노테이션을 가지고 있는지 여부를 반환합니다.
-     *
-     * @param field 필드
-     * @return Excel 헤더 어노테이션을 가지고 있는지 여부
-     */
-    default boolean hasAnnotation(Field field) {
-        return field.isAnnotationPresent(ExcelHeader.class);
-    }
-
-    /**
-     * 주어진 필드의 정렬 순서를 반환합니다.
-     *
-     * @param field 필드
-     * @return 정렬 순서
-     */
-    default int getOrder(Field field) {
-        return field.getAnnotation(ExcelHeader.class).order();
-    }
-
-    /**
-     * 주어진 필드의 이름을 반환합니다.
-     *
-     * @param field 필드
-     * @return 필드의 이름
-     */
-    default String getName(Field field) {
-        return field.getAnnotation(ExcelHeader.class).value();
     }
 }
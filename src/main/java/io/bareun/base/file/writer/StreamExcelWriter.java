@@ -0,0 +1,67 @@
+package io.bareun.base.file.writer;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * StreamExcelWriter 클래스는 {@link Stream}을 원본 데이터로 사용하는 ExcelWriter 구현체입니다.
+ * <p>
+ * DB 커서 등에서 행을 하나씩 읽어 작성하므로, 전체 데이터를 리스트로 메모리에 올리지 않습니다.
+ * 스트림은 작성할 때마다 supplier에서 새로 얻으며, 작성이 끝나면 닫힙니다.
+ *
+ * @param <T> Excel 파일에 작성할 객체의 타입
+ */
+@RequiredArgsConstructor
+public class StreamExcelWriter<T> implements ExcelWriter<T> {
+
+    /**
+     * 작성할 때마다 새 스트림을 제공하는 supplier
+     */
+    private final Supplier<? extends Stream<?>> supplier;
+
+    /**
+     * Excel 파일에 작성할 객체의 클래스 타입
+     */
+    @Getter
+    private final Class<T> type;
+
+    /**
+     * 주어진 스트림 supplier와 클래스 타입으로 StreamExcelWriter 객체를 생성하여 반환합니다.
+     *
+     * @param supplier 원본 데이터 스트림 supplier
+     * @param type     데이터 객체의 클래스 타입
+     * @param <T>      데이터 객체의 타입
+     * @return StreamExcelWriter 객체
+     */
+    public static <T> StreamExcelWriter<T> of(Supplier<? extends Stream<?>> supplier, Class<T> type) {
+        return new StreamExcelWriter<>(supplier, type);
+    }
+
+    /**
+     * 스트림의 모든 데이터를 리스트로 반환합니다.
+     *
+     * @return 데이터 리스트
+     */
+    @Override
+    public List<?> getList() {
+        try (Stream<?> stream = getStream()) {
+            return stream.collect(toList());
+        }
+    }
+
+    /**
+     * supplier에서 새로운 원본 데이터 스트림을 얻어 반환합니다.
+     *
+     * @return 원본 데이터 스트림
+     */
+    @Override
+    public Stream<?> getStream() {
+        return supplier.get();
+    }
+}
@@ -0,0 +1,145 @@
+package io.bareun.base.api.client;
+
+import io.bareun.base.api.request.ApiRequestPolicy;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ApiCircuitBreaker 클래스에 대한 테스트 클래스입니다.
+ */
+class ApiCircuitBreakerTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofMillis(100);
+
+    /**
+     * 실패율이 임계값에 도달하면 서킷이 열리고, 반개방 상태의 시험 호출이 성공하면 다시 닫히는지 확인합니다.
+     */
+    @Test
+    void openAndClose() throws InterruptedException {
+        ApiCircuitBreaker breaker = new ApiCircuitBreaker("open-and-close", policy());
+
+        call(breaker, false);
+        call(breaker, false);
+        call(breaker, true);
+        assertThat(breaker.getState()).isEqualTo(ApiCircuitBreaker.State.CLOSED);
+
+        call(breaker, true);
+        assertThat(breaker.getState()).isEqualTo(ApiCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        Thread.sleep(OPEN_DURATION.toMillis() + 50);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(ApiCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        breaker.onResult(true);
+        assertThat(breaker.getState()).isEqualTo(ApiCircuitBreaker.State.CLOSED);
+    }
+
+    /**
+     * 반개방 상태의 시험 호출이 실패하면 서킷이 다시 열리는지 확인합니다.
+     */
+    @Test
+    void reopen() throws InterruptedException {
+        ApiCircuitBreaker breaker = open("reopen");
+
+        Thread.sleep(OPEN_DURATION.toMillis() + 50);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onResult(false);
+
+        assertThat(breaker.getState()).isEqualTo(ApiCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    /**
+     * 반개방 상태에서 취소된 시험 호출은 허용 수를 반환하는지 확인합니다.
+     */
+    @Test
+    void release() throws InterruptedException {
+        ApiCircuitBreaker breaker = open("release");
+
+        Thread.sleep(OPEN_DURATION.toMillis() + 50);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.release();
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    /**
+     * 최근 호출 수만큼만 실패율을 계산하여 오래된 호출은 잊는지 확인합니다.
+     */
+    @Test
+    void slidingWindow() {
+        ApiCircuitBreaker breaker = new ApiCircuitBreaker("sliding-window", policy());
+
+        call(breaker, false);
+        call(breaker, true);
+        call(breaker, true);
+        call(breaker, true);
+        call(breaker, true);
+        call(breaker, false);
+        assertThat(breaker.getState()).isEqualTo(ApiCircuitBreaker.State.CLOSED);
+
+        call(breaker, false);
+        assertThat(breaker.getState()).isEqualTo(ApiCircuitBreaker.State.OPEN);
+    }
+
+    /**
+     * 서킷이 열려 있으면 요청을 보내지 않고 {@link ApiCircuitBreakerOpenException}을 발생시키는지 확인합니다.
+     * 실패 조건에 해당하지 않는 예외는 성공으로 기록되는지 함께 확인합니다.
+     */
+    @Test
+    void protect() {
+        ApiCircuitBreaker ignored = new ApiCircuitBreaker("protect-ignored", policy());
+        for (int a = 0; a < 4; a++) {
+            Mono<String> mono = ignored.protect(Mono.error(new IllegalArgumentException()), e -> false);
+            assertThatThrownBy(mono::block).isInstanceOf(IllegalArgumentException.class);
+        }
+        assertThat(ignored.getState()).isEqualTo(ApiCircuitBreaker.State.CLOSED);
+
+        ApiCircuitBreaker breaker = new ApiCircuitBreaker("protect", policy());
+        for (int a = 0; a < 4; a++) {
+            Mono<String> mono = breaker.protect(Mono.error(new IllegalArgumentException()), e -> true);
+            assertThatThrownBy(mono::block).isInstanceOf(IllegalArgumentException.class);
+        }
+        assertThat(breaker.getState()).isEqualTo(ApiCircuitBreaker.State.OPEN);
+
+        assertThatThrownBy(() -> breaker.protect(Mono.just("value"), e -> true).block())
+                .isInstanceOf(ApiCircuitBreakerOpenException.class)
+                .extracting("name").isEqualTo("protect");
+    }
+
+    private static ApiCircuitBreaker open(String name) {
+        ApiCircuitBreaker breaker = new ApiCircuitBreaker(name, policy());
+
+        for (int a = 0; a < 4; a++) {
+            call(breaker, false);
+        }
+
+        assertThat(breaker.getState()).isEqualTo(ApiCircuitBreaker.State.OPEN);
+        return breaker;
+    }
+
+    private static void call(ApiCircuitBreaker breaker, boolean success) {
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onResult(success);
+    }
+
+    private static ApiRequestPolicy policy() {
+        return ApiRequestPolicy.builder()
+                .circuitBreaker(true)
+                .failureRateThreshold(0.5)
+                .slidingWindowSize(4)
+                .minimumCalls(4)
+                .openDuration(OPEN_DURATION)
+                .halfOpenCalls(1)
+                .build();
+    }
+}
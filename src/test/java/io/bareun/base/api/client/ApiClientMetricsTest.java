@@ -0,0 +1,72 @@
+package io.bareun.base.api.client;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ApiClientMetrics 클래스에 대한 테스트 클래스입니다.
+ */
+class ApiClientMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final ExchangeFunction ok = request -> Mono.just(ClientResponse.create(HttpStatus.OK).build());
+
+    @BeforeEach
+    void setUp() {
+        Metrics.addRegistry(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Metrics.removeRegistry(registry);
+        registry.close();
+    }
+
+    /**
+     * URI 템플릿을 지정한 요청은 템플릿으로 기록되는지 확인합니다.
+     */
+    @Test
+    void uriTemplate() {
+        ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("http://localhost/users/123"))
+                .attribute(ApiClientMetrics.URI_TEMPLATE, "/users/{id}")
+                .build();
+
+        new ApiClientMetrics(false).filter(request, ok).block();
+
+        assertThat(registry.find("bareun.api.client.requests")
+                .tags("uri", "/users/{id}", "status", "200", "outcome", "SUCCESS")
+                .timer()).isNotNull();
+    }
+
+    /**
+     * URI 템플릿을 지정하지 않은 요청은 경로와 관계없이 고정 값으로 기록되는지 확인합니다.
+     */
+    @Test
+    void noUriTemplate() {
+        ApiClientMetrics metrics = new ApiClientMetrics(false);
+
+        metrics.filter(ClientRequest.create(HttpMethod.GET, URI.create("http://localhost/users/alice")).build(), ok).block();
+        metrics.filter(ClientRequest.create(HttpMethod.GET, URI.create("http://localhost/users/bob")).build(), ok).block();
+
+        assertThat(registry.find("bareun.api.client.requests").timers())
+                .singleElement()
+                .satisfies(timer -> {
+                    assertThat(timer.getId().getTag("uri")).isEqualTo(ApiClientMetrics.NO_URI_TEMPLATE);
+                    assertThat(timer.count()).isEqualTo(2);
+                });
+    }
+}
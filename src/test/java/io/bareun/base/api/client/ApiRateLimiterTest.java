@@ -0,0 +1,84 @@
+package io.bareun.base.api.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ApiRateLimiter 클래스에 대한 테스트 클래스입니다.
+ */
+class ApiRateLimiterTest {
+
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final long TOLERANCE = TimeUnit.MILLISECONDS.toNanos(50);
+
+    /**
+     * 버스트 크기만큼은 바로 허용하고, 이후에는 토큰이 채워지는 간격만큼 대기 시간이 늘어나는지 확인합니다.
+     * 토큰이 없을 때의 첫 요청은 바로 허용하고 다음 요청이 그 대기 시간을 부담합니다.
+     */
+    @Test
+    void reserve() {
+        ApiRateLimiter limiter = new ApiRateLimiter(10, 2);
+
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+
+        assertThat(limiter.reserve()).isBetween(INTERVAL - TOLERANCE, INTERVAL);
+        assertThat(limiter.reserve()).isBetween(2 * INTERVAL - TOLERANCE, 2 * INTERVAL);
+    }
+
+    /**
+     * 쉬는 동안 토큰이 채워지되 버스트 크기를 넘지 않는지 확인합니다.
+     */
+    @Test
+    void refill() throws InterruptedException {
+        ApiRateLimiter limiter = new ApiRateLimiter(10, 2);
+
+        for (int a = 0; a < 3; a++) {
+            limiter.reserve();
+        }
+
+        Thread.sleep(TimeUnit.NANOSECONDS.toMillis(10 * INTERVAL));
+
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isPositive();
+    }
+
+    /**
+     * 토큰이 없으면 다음 토큰이 채워질 때까지 지연된 뒤 완료되는지 확인합니다.
+     */
+    @Test
+    void acquire() {
+        ApiRateLimiter limiter = new ApiRateLimiter(10, 1);
+
+        limiter.acquire().block();
+        limiter.acquire().block();
+
+        long start = System.nanoTime();
+        limiter.acquire().block(Duration.ofSeconds(1));
+
+        assertThat(System.nanoTime() - start).isGreaterThan(INTERVAL - TOLERANCE);
+    }
+
+    /**
+     * 대기 중에 취소된 요청의 토큰이 반환되어 다음 요청의 대기 시간이 늘어나지 않는지 확인합니다.
+     */
+    @Test
+    void refund() {
+        ApiRateLimiter limiter = new ApiRateLimiter(10, 1);
+
+        limiter.acquire().block();
+        limiter.acquire().block();
+
+        limiter.acquire().subscribe().dispose();
+
+        assertThat(limiter.reserve()).isBetween(INTERVAL - TOLERANCE, INTERVAL);
+    }
+}
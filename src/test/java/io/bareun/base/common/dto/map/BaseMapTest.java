@@ -2,7 +2,12 @@ package io.bareun.base.common.dto.map;
 
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -58,4 +63,255 @@ class BaseMapTest {
         BaseMap item = list.get(0);
         assertThat(item.getString("key")).isEqualTo("value");
     }
-}
\ No newline at end of file
+
+    /**
+     * JSON 문자열 생성자는 최상위 키만 camelCase로 변환하고 중첩 객체는 원래 키의 Map으로 유지하는지 확인합니다.
+     * {@link BaseMapParser#ALL}은 중첩 객체의 키까지 변환합니다.
+     */
+    @Test
+    void nestedKeys() {
+        String json = "{\"user_info\": {\"user_name\": \"bareun\"}, \"user_list\": [{\"user_id\": 1}]}";
+
+        BaseMap baseMap = BaseMap.of(json);
+
+        assertThat(baseMap.get("userInfo")).isNotInstanceOf(BaseMap.class);
+        assertThat(baseMap.get("userInfo")).isEqualTo(Collections.singletonMap("user_name", "bareun"));
+        assertThat(baseMap.getMap("userInfo").getString("userName")).isEqualTo("bareun");
+        assertThat(baseMap.getMapList("userList").get(0).getLong("userId")).isEqualTo(1L);
+
+        BaseMap parsed = BaseMapParser.ALL.parse(json);
+
+        assertThat(parsed.get("userInfo")).isInstanceOf(BaseMap.class);
+        assertThat(parsed.getMap("userInfo").keySet()).containsExactly("userName");
+    }
+
+    /**
+     * 파서로 읽은 중첩 맵과 맵 리스트가 조회할 때마다 같은 인스턴스로 반환되는지 확인합니다.
+     */
+    @Test
+    void nestedViews() {
+        BaseMap baseMap = BaseMapParser.ALL.parse("{\"search_map\": {\"list_map_value\": [{\"key\": \"value\"}]}}");
+        List<BaseMap> list = baseMap.getMap("searchMap").getMapList("listMapValue");
+
+        assertThat(baseMap.getMap("searchMap")).isSameAs(baseMap.getMap("searchMap"));
+        assertThat(baseMap.getMap("searchMap").getMapList("listMapValue")).isSameAs(list);
+    }
+
+    /**
+     * BaseMap이 아닌 중첩 Map과 Map 리스트를 camelCase 키로 조회하고, 원본은 그대로 유지하는지 확인합니다.
+     * {@link BaseMap#setCacheParsedValues(boolean)}를 설정하면 변환한 맵을 재사용하는지 확인합니다.
+     */
+    @Test
+    void rawNestedMaps() {
+        Map<String, Object> nested = new HashMap<>();
+        nested.put("user_name", "bareun");
+        BaseMap raw = new BaseMap();
+        raw.put("user_info", nested);
+        raw.put("user_list", Arrays.asList(nested, nested));
+
+        assertThat(raw.getMap("userInfo").getString("userName")).isEqualTo("bareun");
+        assertThat(raw.get("userInfo")).isSameAs(nested);
+        assertThat(raw.getMapList("userList").get(1).getString("userName")).isEqualTo("bareun");
+        assertThat((String) raw.path("userList[0].userName")).isEqualTo("bareun");
+        assertThat(raw.get("userList")).isEqualTo(Arrays.asList(nested, nested));
+
+        raw.setCacheParsedValues(true);
+        assertThat(raw.getMap("userInfo")).isSameAs(raw.getMap("userInfo"));
+    }
+
+    /**
+     * 경로 표현식으로 중첩 맵과 리스트의 값을 조회하고, 없는 인덱스는 null을 반환하는지 확인합니다.
+     */
+    @Test
+    void path() {
+        String json = "{\"search_map\": {\"map_value\": {\"hello_world\": \"I'm project base\"}, " +
+                "\"list_string_value\": [\"one\", \"two\"], \"list_map_value\": [{\"key\": \"value\"}]}}";
+        BaseMap baseMap = BaseMap.of(json);
+
+        assertThat((String) baseMap.path("searchMap.mapValue.helloWorld")).isEqualTo("I'm project base");
+        assertThat((String) baseMap.path("searchMap.listMapValue[0].key")).isEqualTo("value");
+        assertThat((String) baseMap.path("searchMap.listStringValue[1]")).isEqualTo("two");
+        assertThat((Object) baseMap.path("searchMap.listMapValue[1].key")).isNull();
+    }
+
+    /**
+     * 같은 키 구성을 가진 맵 목록의 변환을 테스트하는 메서드입니다.
+     * 모든 행의 snake_case 키가 camelCase로 변환되는지 확인합니다.
+     */
+    @Test
+    void ofList() {
+        Map<String, Object> first = new HashMap<>();
+        first.put("user_id", 1L);
+        first.put("user_name", "first");
+
+        Map<String, Object> second = new HashMap<>();
+        second.put("user_id", 2L);
+        second.put("user_name", "second");
+        second.put("created_at", "2024-01-01");
+
+        List<BaseMap> list = BaseMap.ofList(Arrays.asList(first, second));
+
+        assertThat(list.size()).isEqualTo(2);
+        assertThat(list.get(0).getLong("userId")).isEqualTo(1L);
+        assertThat(list.get(1).getString("userName")).isEqualTo("second");
+        assertThat(list.get(1).getString("createdAt")).isEqualTo("2024-01-01");
+        assertThat(BaseMapKeys.camelCase("user_id")).isSameAs(BaseMapKeys.camelCase("user_id"));
+    }
+
+    /**
+     * 키 변환 캐시가 최대 크기를 넘어도 전부 비워지지 않고 자주 쓰이는 키의 변환 결과를 유지하는지 확인합니다.
+     */
+    @Test
+    void camelCaseCacheBounded() {
+        BaseMapKeys.setCacheSize(100);
+
+        try {
+            String hot = BaseMapKeys.camelCase("hot_key");
+            for (int a = 0; a < 20; a++) {
+                BaseMapKeys.camelCase("hot_key");
+            }
+
+            for (int a = 0; a < 10_000; a++) {
+                BaseMapKeys.camelCase("cold_key_" + a);
+            }
+
+            assertThat(BaseMapKeys.camelCase("hot_key")).isSameAs(hot);
+        } finally {
+            BaseMapKeys.setCacheSize(BaseMapKeys.DEFAULT_CACHE_SIZE);
+        }
+    }
+
+    /**
+     * 키 구성을 공유하는 CompactBaseMap을 테스트하는 메서드입니다.
+     * 구성에 없는 키와 null 값을 포함하여 Map 계약대로 동작하는지 확인합니다.
+     */
+    @Test
+    void compactBaseMap() {
+        Map<String, Object> first = new HashMap<>();
+        first.put("user_id", 1L);
+        first.put("user_name", null);
+
+        Map<String, Object> second = new HashMap<>();
+        second.put("user_id", 2L);
+        second.put("user_name", "second");
+        second.put("extra_value", "extra");
+
+        List<BaseMap> list = CompactBaseMap.ofList(Arrays.asList(first, second));
+
+        assertThat(list.get(0).size()).isEqualTo(2);
+        assertThat(list.get(0).containsKey("userName")).isTrue();
+        assertThat(list.get(0).getString("userName")).isNull();
+        assertThat(list.get(1).getLong("userId")).isEqualTo(2L);
+        assertThat(list.get(1).getString("extraValue")).isEqualTo("extra");
+        assertThat(list.get(1)).isEqualTo(BaseMap.ofList(Arrays.asList(second)).get(0));
+
+        list.get(1).remove("userId");
+        assertThat(list.get(1).keySet()).containsExactlyInAnyOrder("userName", "extraValue");
+    }
+
+    /**
+     * CompactBaseMap 항목의 setValue를 테스트하는 메서드입니다.
+     * 맵의 값을 변경하되, 제거된 항목의 setValue는 맵에 반영되지 않는지 확인합니다.
+     */
+    @Test
+    void compactEntrySetValue() {
+        Map<String, Object> source = new HashMap<>();
+        source.put("user_id", 1L);
+        source.put("user_name", "bareun");
+
+        BaseMap map = CompactBaseMap.ofList(Arrays.asList(source)).get(0);
+        Map.Entry<String, Object> entry = null;
+
+        for (Map.Entry<String, Object> candidate : map.entrySet()) {
+            if (candidate.getKey().equals("userName")) {
+                entry = candidate;
+            }
+        }
+
+        assertThat(entry).isNotNull();
+        assertThat(entry.setValue("changed")).isEqualTo("bareun");
+        assertThat(map.getString("userName")).isEqualTo("changed");
+
+        map.remove("userName");
+        entry.setValue("removed");
+
+        assertThat(map.size()).isEqualTo(1);
+        assertThat(map.containsKey("userName")).isFalse();
+        assertThat(map.keySet()).containsExactly("userId");
+    }
+
+    /**
+     * 기본형 조회 메서드를 테스트하는 메서드입니다.
+     * 숫자와 문자열 값을 변환하고, 변환할 수 없으면 기본값을 반환하는지 확인합니다.
+     */
+    @Test
+    void primitiveValues() {
+        BaseMap baseMap = new BaseMap()
+                .set("long_value", "1,234")
+                .set("int_value", 10L)
+                .set("double_value", " 1.25 ")
+                .set("boolean_value", "TRUE")
+                .set("invalid_value", "abc")
+                .set("overflow_value", "3,000,000,000")
+                .set("overflow_number", 3_000_000_000L)
+                .setCacheParsedValues(true);
+
+        assertThat(baseMap.getLongValue("longValue", 0L)).isEqualTo(1234L);
+        assertThat(baseMap.get("longValue")).isEqualTo(1234L);
+        assertThat(baseMap.getIntValue("intValue", 0)).isEqualTo(10);
+        assertThat(baseMap.getDoubleValue("doubleValue", 0)).isEqualTo(1.25);
+        assertThat(baseMap.getBooleanValue("booleanValue", false)).isTrue();
+        assertThat(baseMap.getLongValue("invalidValue", -1L)).isEqualTo(-1L);
+        assertThat(baseMap.getIntValue("emptyValue", -1)).isEqualTo(-1);
+        assertThat(baseMap.getIntValue("overflowValue", -1)).isEqualTo(-1);
+        assertThat(baseMap.get("overflowValue")).isEqualTo("3,000,000,000");
+        assertThat(baseMap.getIntValue("overflowNumber", -1)).isEqualTo(-1);
+        assertThat(baseMap.getLongValue("overflowValue", -1L)).isEqualTo(3_000_000_000L);
+    }
+
+    /**
+     * 쉼표의 위치가 올바르지 않은 문자열과 정수가 아닌 문자열은 기본값을 반환하는지 확인합니다.
+     */
+    @Test
+    void malformedNumbers() {
+        BaseMap baseMap = new BaseMap()
+                .set("double_comma", "1,,234")
+                .set("trailing_comma", "1,234,")
+                .set("short_group", "1,23")
+                .set("long_group", "1234,567")
+                .set("leading_comma", ",123")
+                .set("fraction", "1.9")
+                .set("zero_fraction", "1,234.00")
+                .set("grouped_double", "-1,234,567.25");
+
+        assertThat(baseMap.getLongValue("doubleComma", -1L)).isEqualTo(-1L);
+        assertThat(baseMap.getLongValue("trailingComma", -1L)).isEqualTo(-1L);
+        assertThat(baseMap.getLongValue("shortGroup", -1L)).isEqualTo(-1L);
+        assertThat(baseMap.getLongValue("longGroup", -1L)).isEqualTo(-1L);
+        assertThat(baseMap.getLongValue("leadingComma", -1L)).isEqualTo(-1L);
+        assertThat(baseMap.getLongValue("fraction", -1L)).isEqualTo(-1L);
+        assertThat(baseMap.getIntValue("fraction", -1)).isEqualTo(-1);
+        assertThat(baseMap.getLongValue("zeroFraction", -1L)).isEqualTo(1234L);
+
+        assertThat(baseMap.getDoubleValue("doubleComma", -1)).isEqualTo(-1);
+        assertThat(baseMap.getDoubleValue("trailingComma", -1)).isEqualTo(-1);
+        assertThat(baseMap.getDoubleValue("shortGroup", -1)).isEqualTo(-1);
+        assertThat(baseMap.getDoubleValue("fraction", -1)).isEqualTo(1.9);
+        assertThat(baseMap.getDoubleValue("groupedDouble", 0)).isEqualTo(-1_234_567.25);
+    }
+
+    /**
+     * 필드 목록을 지정한 스트리밍 JSON 파싱을 테스트하는 메서드입니다.
+     * 지정한 최상위 필드만 읽고, 중첩 객체의 키도 camelCase로 변환되는지 확인합니다.
+     */
+    @Test
+    void parseFields() {
+        String json = "{\"user_id\": 1, \"user_info\": {\"user_name\": \"bareun\"}, \"large_list\": [1, 2, 3]}";
+
+        BaseMap baseMap = BaseMapParser.of("user_id", "userInfo").parse(json.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(baseMap.getLongValue("userId", 0L)).isEqualTo(1L);
+        assertThat(baseMap.getMap("userInfo").getString("userName")).isEqualTo("bareun");
+        assertThat(baseMap.containsKey("largeList")).isFalse();
+    }
+}
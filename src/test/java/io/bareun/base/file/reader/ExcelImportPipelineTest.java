@@ -0,0 +1,236 @@
+package io.bareun.base.file.reader;
+
+import io.bareun.base.file.annotation.ExcelHeader;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ExcelImportPipeline 클래스에 대한 테스트 클래스입니다.
+ */
+class ExcelImportPipelineTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * 청크 단위 병렬 처리를 테스트하는 메서드입니다.
+     * 모든 행이 sink에 전달되고, 동시에 실행되는 sink가 워커 수를 넘지 않는지 확인합니다.
+     */
+    @Test
+    void run() throws IOException {
+        File file = write(10, true);
+        Queue<Item> items = new ConcurrentLinkedQueue<>();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        ExcelImportResult result = ExcelImportPipeline.<Item>builder()
+                .type(Item.class)
+                .chunkSize(3)
+                .workers(2)
+                .queueCapacity(1)
+                .sink(chunk -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    sleep();
+                    items.addAll(chunk);
+                    running.decrementAndGet();
+                })
+                .build()
+                .run(file);
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getTotalRows()).isEqualTo(10);
+        assertThat(result.getSuccessRows()).isEqualTo(10);
+        assertThat(result.getChunks()).isEqualTo(4);
+        assertThat(items).extracting(item -> item.id).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+    }
+
+    /**
+     * 검증에 실패한 청크만 실패로 기록되고 나머지 청크는 처리되는지 확인합니다.
+     */
+    @Test
+    void chunkFailure() throws IOException {
+        File file = write(10, true);
+
+        ExcelImportResult result = ExcelImportPipeline.<Item>builder()
+                .type(Item.class)
+                .chunkSize(3)
+                .workers(2)
+                .validator(item -> {
+                    if (item.id == 5L) {
+                        throw new IllegalArgumentException("invalid id");
+                    }
+                })
+                .sink(chunk -> {
+                })
+                .build()
+                .run(file);
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getSuccessRows()).isEqualTo(7);
+
+        List<ExcelImportResult.Failure> failures = result.getFailures();
+        assertThat(failures).hasSize(1);
+        assertThat(failures.get(0).getChunk().getIndex()).isEqualTo(1);
+        assertThat(failures.get(0).getError()).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 변환에 실패한 청크의 오류에 실패한 행 번호가 포함되는지 확인합니다.
+     */
+    @Test
+    void bindFailureRowNumber() throws IOException {
+        File file = tempDir.resolve("invalid.xlsx").toFile();
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream stream = new FileOutputStream(file)) {
+            Sheet sheet = workbook.createSheet();
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("아이디");
+            header.createCell(1).setCellValue("이름");
+
+            for (int a = 1; a <= 4; a++) {
+                Row row = sheet.createRow(a);
+                row.createCell(0).setCellValue(a == 3 ? "three" : String.valueOf(a));
+                row.createCell(1).setCellValue("name" + a);
+            }
+
+            workbook.write(stream);
+        }
+
+        ExcelImportResult result = ExcelImportPipeline.<Item>builder()
+                .type(Item.class)
+                .chunkSize(2)
+                .workers(1)
+                .sink(chunk -> {
+                })
+                .build()
+                .run(file);
+
+        assertThat(result.getFailures()).hasSize(1);
+        assertThat(result.getFailures().get(0).getError())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Row 4");
+    }
+
+    /**
+     * 청크 크기, 워커 수, 대기 청크 수가 0 이하이면 실행하지 않는지 확인합니다.
+     */
+    @Test
+    void invalidOptions() throws IOException {
+        File file = write(1, true);
+
+        assertThatThrownBy(() -> pipeline().chunkSize(0).build().run(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("chunkSize");
+        assertThatThrownBy(() -> pipeline().workers(0).build().run(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("workers");
+        assertThatThrownBy(() -> pipeline().queueCapacity(-1).build().run(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("queueCapacity");
+    }
+
+    /**
+     * 워커에서 발생한 Error는 청크 실패로 기록하지 않고 호출한 쪽으로 전달되는지 확인합니다.
+     */
+    @Test
+    void errorPropagates() throws IOException {
+        File file = write(4, true);
+
+        assertThatThrownBy(() -> ExcelImportPipeline.<Item>builder()
+                .type(Item.class)
+                .chunkSize(2)
+                .workers(1)
+                .sink(chunk -> {
+                    throw new AssertionError("fatal");
+                })
+                .build()
+                .run(file))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage("fatal");
+    }
+
+    /**
+     * 헤더 행이 없는 파일은 바로 실패하는지 확인합니다.
+     */
+    @Test
+    void missingHeader() throws IOException {
+        File file = write(4, false);
+
+        assertThatThrownBy(() -> ExcelImportPipeline.<Item>builder()
+                .type(Item.class)
+                .sink(chunk -> {
+                })
+                .build()
+                .run(file))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("header");
+    }
+
+    private static ExcelImportPipeline.ExcelImportPipelineBuilder<Item> pipeline() {
+        return ExcelImportPipeline.<Item>builder()
+                .type(Item.class)
+                .sink(chunk -> {
+                });
+    }
+
+    private File write(int rows, boolean header) throws IOException {
+        File file = tempDir.resolve("items.xlsx").toFile();
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream stream = new FileOutputStream(file)) {
+            Sheet sheet = workbook.createSheet();
+            int offset = 0;
+
+            if (header) {
+                Row row = sheet.createRow(0);
+                row.createCell(0).setCellValue("아이디");
+                row.createCell(1).setCellValue("이름");
+            } else {
+                offset = 2;
+            }
+
+            for (int a = 1; a <= rows; a++) {
+                Row row = sheet.createRow(a + offset);
+                row.createCell(0).setCellValue(a);
+                row.createCell(1).setCellValue("name" + a);
+            }
+
+            workbook.write(stream);
+        }
+
+        return file;
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static class Item {
+
+        @ExcelHeader(value = "아이디", order = 1)
+        private Long id;
+
+        @ExcelHeader(value = "이름", order = 2)
+        private String name;
+    }
+}
@@ -0,0 +1,118 @@
+package io.bareun.base.file.reader;
+
+import io.bareun.base.file.annotation.ExcelHeader;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ExcelSharedStrings 클래스에 대한 테스트 클래스입니다.
+ */
+class ExcelSharedStringsTest {
+
+    private static final String XML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+            "<sst xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\" count=\"7\" uniqueCount=\"5\">" +
+            "<si><t>first</t></si>" +
+            "<si><t>두번째</t></si>" +
+            "<si><r><t>rich </t></r><r><t>text</t></r></si>" +
+            "<si><t>漢字</t><rPh sb=\"0\" eb=\"2\"><t>かんじ</t></rPh></si>" +
+            "<si><t></t></si>" +
+            "</sst>";
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * 캐시 크기보다 많은 문자열을 읽은 뒤, 캐시에서 제거된 문자열을 임시 파일에서 다시 읽는지 확인합니다.
+     */
+    @Test
+    void readEvicted() throws IOException {
+        try (ExcelSharedStrings strings = new ExcelSharedStrings(stream(XML), 2)) {
+            assertThat(strings.getUniqueCount()).isEqualTo(5);
+            assertThat(strings.getCount()).isEqualTo(7);
+
+            assertThat(strings.getString(0)).isEqualTo("first");
+            assertThat(strings.getString(1)).isEqualTo("두번째");
+            assertThat(strings.getString(2)).isEqualTo("rich text");
+            assertThat(strings.getString(3)).isEqualTo("漢字");
+            assertThat(strings.getString(4)).isEmpty();
+
+            assertThat(strings.getString(0)).isEqualTo("first");
+            assertThat(strings.getString(1)).isEqualTo("두번째");
+            assertThat(strings.getItemAt(3).getString()).isEqualTo("漢字");
+        }
+    }
+
+    /**
+     * 범위를 벗어난 인덱스는 예외가 발생하는지 확인합니다.
+     */
+    @Test
+    void outOfRange() throws IOException {
+        try (ExcelSharedStrings strings = new ExcelSharedStrings(stream(XML), 2)) {
+            assertThatThrownBy(() -> strings.getString(5)).isInstanceOf(IndexOutOfBoundsException.class);
+            assertThatThrownBy(() -> strings.getString(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+
+    /**
+     * 캐시 크기가 작아도 스트리밍 읽기 결과가 모든 행에서 올바른지 확인합니다.
+     */
+    @Test
+    void streamWithSmallCache() throws IOException {
+        File file = tempDir.resolve("strings.xlsx").toFile();
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream stream = new FileOutputStream(file)) {
+            Sheet sheet = workbook.createSheet();
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("이름");
+            header.createCell(1).setCellValue("코드");
+
+            for (int a = 1; a <= 200; a++) {
+                Row row = sheet.createRow(a);
+                row.createCell(0).setCellValue("name" + a);
+                row.createCell(1).setCellValue("code" + (a % 7));
+            }
+
+            workbook.write(stream);
+        }
+
+        List<Item> items = new ArrayList<>();
+        ExcelStreamReader.read(file, Item.class, items::add, 3);
+
+        assertThat(items).hasSize(200);
+
+        for (int a = 1; a <= 200; a++) {
+            assertThat(items.get(a - 1).name).isEqualTo("name" + a);
+            assertThat(items.get(a - 1).code).isEqualTo("code" + (a % 7));
+        }
+    }
+
+    private static InputStream stream(String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static class Item {
+
+        @ExcelHeader(value = "이름", order = 1)
+        private String name;
+
+        @ExcelHeader(value = "코드", order = 2)
+        private String code;
+    }
+}
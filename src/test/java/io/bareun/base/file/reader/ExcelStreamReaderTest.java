@@ -0,0 +1,97 @@
+package io.bareun.base.file.reader;
+
+import io.bareun.base.file.annotation.ExcelHeader;
+import io.bareun.base.file.util.ExcelFileUtils;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ExcelStreamReader 클래스에 대한 테스트 클래스입니다.
+ */
+class ExcelStreamReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * 첫 행이 없는 시트는 행을 버리지 않고 헤더가 없다는 예외가 발생하는지 확인합니다.
+     */
+    @Test
+    void missingHeader() throws IOException {
+        File file = tempDir.resolve("missing.xlsx").toFile();
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream stream = new FileOutputStream(file)) {
+            Row row = workbook.createSheet().createRow(2);
+            row.createCell(0).setCellValue("name");
+            row.createCell(1).setCellValue(1);
+
+            workbook.write(stream);
+        }
+
+        assertThatThrownBy(() -> ExcelStreamReader.read(file, Item.class, item -> {
+        }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("header");
+    }
+
+    /**
+     * 수식 셀은 스트리밍 읽기와 DOM 읽기 모두 저장된 계산 결과를 읽는지 확인합니다.
+     */
+    @Test
+    void formulaResult() throws IOException {
+        File file = tempDir.resolve("formula.xlsx").toFile();
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream stream = new FileOutputStream(file)) {
+            Sheet sheet = workbook.createSheet();
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("이름");
+            header.createCell(1).setCellValue("합계");
+
+            Row row = sheet.createRow(1);
+            row.createCell(0).setCellFormula("\"bare\"&\"un\"");
+            row.createCell(1).setCellFormula("1+2");
+
+            workbook.getCreationHelper().createFormulaEvaluator().evaluateAll();
+            workbook.write(stream);
+        }
+
+        List<Item> streamed = new ArrayList<>();
+        ExcelStreamReader.read(file, Item.class, streamed::add);
+
+        List<Item> loaded = ExcelFileUtils.read(new MockMultipartFile("file", "formula.xlsx", null,
+                Files.readAllBytes(file.toPath())), Item.class);
+
+        assertThat(streamed).hasSize(1);
+        assertThat(streamed.get(0).name).isEqualTo("bareun");
+        assertThat(streamed.get(0).total).isEqualTo(3L);
+
+        assertThat(loaded).hasSize(1);
+        assertThat(loaded.get(0).name).isEqualTo("bareun");
+        assertThat(loaded.get(0).total).isEqualTo(3L);
+    }
+
+    static class Item {
+
+        @ExcelHeader(value = "이름", order = 1)
+        private String name;
+
+        @ExcelHeader(value = "합계", order = 2)
+        private Long total;
+    }
+}
@@ -0,0 +1,218 @@
+package io.bareun.base.file.schema;
+
+import io.bareun.base.file.annotation.ExcelHeader;
+import io.bareun.base.file.converter.ExcelConverter;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ExcelCellWriter 인터페이스에 대한 테스트 클래스입니다.
+ */
+class ExcelCellWriterTest {
+
+    private static final LocalDateTime DATE_TIME = LocalDateTime.of(2024, 1, 31, 10, 30);
+
+    private XSSFWorkbook workbook;
+
+    private Row row;
+
+    @BeforeEach
+    void setUp() {
+        workbook = new XSSFWorkbook();
+        row = workbook.createSheet().createRow(0);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        workbook.close();
+    }
+
+    /**
+     * 숫자 셀로 정확하게 표현할 수 없는 long, BigDecimal, BigInteger 값은 문자열로 작성하는지 확인합니다.
+     */
+    @Test
+    void precisionCutover() {
+        Item item = new Item();
+        item.primitiveLong = 999_999_999_999_999L;
+        item.wrapperLong = 1_000_000_000_000_000L;
+        item.decimal = new BigDecimal("123456789012.345");
+        item.wideDecimal = new BigDecimal("1234567890.1234567");
+        item.bigInteger = new BigInteger("12345678901234567890");
+        item.object = Long.MIN_VALUE;
+
+        assertThat(write("primitiveLong", item).getNumericCellValue()).isEqualTo(999_999_999_999_999d);
+        assertThat(write("wrapperLong", item).getStringCellValue()).isEqualTo("1000000000000000");
+        assertThat(write("decimal", item).getNumericCellValue()).isEqualTo(123456789012.345);
+        assertThat(write("wideDecimal", item).getStringCellValue()).isEqualTo("1234567890.1234567");
+        assertThat(write("bigInteger", item).getStringCellValue()).isEqualTo("12345678901234567890");
+        assertThat(write("object", item).getStringCellValue()).isEqualTo(Long.toString(Long.MIN_VALUE));
+    }
+
+    /**
+     * 기본형 필드는 기본값을 작성하고, null인 래퍼 타입과 객체 필드는 빈 셀로 남겨 두는지 확인합니다.
+     */
+    @Test
+    void nullValues() {
+        Item item = new Item();
+
+        assertThat(write("primitiveInt", item).getNumericCellValue()).isZero();
+        assertThat(write("primitiveBoolean", item).getBooleanCellValue()).isFalse();
+        assertThat(write("primitiveChar", item).getStringCellValue()).isEqualTo("A");
+
+        for (String name : new String[]{"wrapperLong", "wrapperInt", "wrapperBoolean", "decimal", "text",
+                "localDate", "localDateTime", "instant", "grade", "object", "yesNo", "label"}) {
+            assertThat(write(name, item).getCellType()).as(name).isEqualTo(CellType.BLANK);
+        }
+    }
+
+    /**
+     * java.time 타입은 날짜 숫자 셀로 작성하며, 시간대가 있는 값은 현지 날짜시간으로 작성하는지 확인합니다.
+     */
+    @Test
+    void javaTime() {
+        Item item = new Item();
+        item.localDate = DATE_TIME.toLocalDate();
+        item.localDateTime = DATE_TIME;
+        item.offsetDateTime = DATE_TIME.atOffset(ZoneOffset.ofHours(9));
+        item.zonedDateTime = DATE_TIME.atZone(ZoneId.of("Asia/Seoul"));
+        item.instant = DATE_TIME.atZone(ZoneId.systemDefault()).toInstant();
+
+        assertThat(write("localDate", item).getLocalDateTimeCellValue()).isEqualTo(DATE_TIME.toLocalDate().atStartOfDay());
+        assertThat(write("localDateTime", item).getLocalDateTimeCellValue()).isEqualTo(DATE_TIME);
+        assertThat(write("offsetDateTime", item).getLocalDateTimeCellValue()).isEqualTo(DATE_TIME);
+        assertThat(write("zonedDateTime", item).getLocalDateTimeCellValue()).isEqualTo(DATE_TIME);
+        assertThat(write("instant", item).getLocalDateTimeCellValue()).isEqualTo(DATE_TIME);
+    }
+
+    /**
+     * 사용자 정의 변환기의 결과를 값의 타입에 맞게 작성하고, 큰 숫자는 문자열로 작성하는지 확인합니다.
+     */
+    @Test
+    void converter() {
+        Item item = new Item();
+        item.yesNo = true;
+        item.label = 1_234_567_890_123_456_789L;
+        item.grade = Grade.HIGH;
+
+        assertThat(write("yesNo", item).getStringCellValue()).isEqualTo("Y");
+        assertThat(write("label", item).getStringCellValue()).isEqualTo("1234567890123456789");
+        assertThat(write("grade", item).getStringCellValue()).isEqualTo("HIGH");
+
+        Cell cell = row.createCell(20);
+        ExcelSchema.of(Item.class).getColumn("yesNo").writeValue(cell, false);
+        assertThat(cell.getStringCellValue()).isEqualTo("N");
+    }
+
+    private Cell write(String name, Item item) {
+        Cell cell = row.createCell(row.getLastCellNum() < 0 ? 0 : row.getLastCellNum());
+        ExcelSchema.of(Item.class).getColumn(name).writeCell(cell, item);
+
+        return cell;
+    }
+
+    enum Grade {
+        LOW, HIGH
+    }
+
+    static class YesNoConverter implements ExcelConverter<Boolean> {
+
+        @Override
+        public Object toCellValue(Boolean value) {
+            return value ? "Y" : "N";
+        }
+
+        @Override
+        public Boolean fromCellValue(Object value) {
+            return "Y".equals(value);
+        }
+    }
+
+    static class IdentityConverter implements ExcelConverter<Object> {
+
+        @Override
+        public Object toCellValue(Object value) {
+            return value;
+        }
+    }
+
+    static class Item {
+
+        @ExcelHeader(value = "primitiveLong", order = 1)
+        private long primitiveLong;
+
+        @ExcelHeader(value = "wrapperLong", order = 2)
+        private Long wrapperLong;
+
+        @ExcelHeader(value = "primitiveInt", order = 3)
+        private int primitiveInt;
+
+        @ExcelHeader(value = "wrapperInt", order = 4)
+        private Integer wrapperInt;
+
+        @ExcelHeader(value = "primitiveBoolean", order = 5)
+        private boolean primitiveBoolean;
+
+        @ExcelHeader(value = "wrapperBoolean", order = 6)
+        private Boolean wrapperBoolean;
+
+        @ExcelHeader(value = "primitiveChar", order = 7)
+        private char primitiveChar = 'A';
+
+        @ExcelHeader(value = "decimal", order = 8)
+        private BigDecimal decimal;
+
+        @ExcelHeader(value = "wideDecimal", order = 9)
+        private BigDecimal wideDecimal;
+
+        @ExcelHeader(value = "bigInteger", order = 10)
+        private BigInteger bigInteger;
+
+        @ExcelHeader(value = "text", order = 11)
+        private String text;
+
+        @ExcelHeader(value = "localDate", order = 12)
+        private LocalDate localDate;
+
+        @ExcelHeader(value = "localDateTime", order = 13)
+        private LocalDateTime localDateTime;
+
+        @ExcelHeader(value = "offsetDateTime", order = 14)
+        private OffsetDateTime offsetDateTime;
+
+        @ExcelHeader(value = "zonedDateTime", order = 15)
+        private ZonedDateTime zonedDateTime;
+
+        @ExcelHeader(value = "instant", order = 16)
+        private Instant instant;
+
+        @ExcelHeader(value = "grade", order = 17)
+        private Grade grade;
+
+        @ExcelHeader(value = "object", order = 18)
+        private Object object;
+
+        @ExcelHeader(value = "yesNo", order = 19, converter = YesNoConverter.class)
+        private Boolean yesNo;
+
+        @ExcelHeader(value = "label", order = 20, converter = IdentityConverter.class)
+        private Long label;
+    }
+}
@@ -0,0 +1,180 @@
+package io.bareun.base.file.schema;
+
+import io.bareun.base.file.annotation.ExcelHeader;
+import io.bareun.base.file.converter.ExcelConverter;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ExcelColumn 클래스에 대한 테스트 클래스입니다.
+ */
+class ExcelColumnTest {
+
+    private final ExcelSchema schema = ExcelSchema.of(Item.class);
+
+    /**
+     * 읽기를 구현한 변환기로 셀 값을 필드 값으로 변환하고, 빈 문자열은 설정하지 않는지 확인합니다.
+     */
+    @Test
+    void readConverter() {
+        Item item = new Item();
+
+        schema.getColumn("yesNo").setValue(item, "Y");
+        assertThat(item.yesNo).isTrue();
+
+        schema.getColumn("yesNo").setValue(item, "");
+        assertThat(item.yesNo).isTrue();
+
+        schema.getColumn("yesNo").setValue(item, "N");
+        assertThat(item.yesNo).isFalse();
+    }
+
+    /**
+     * 쓰기 전용 변환기를 지정한 컬럼은 읽을 때 필드 타입에 따른 기본 변환을 사용하는지 확인합니다.
+     */
+    @Test
+    void writeOnlyConverter() {
+        Item item = new Item();
+
+        assertThat(schema.getColumn("amount").toCellValue(1500L)).isEqualTo("1,500원");
+
+        schema.getColumn("amount").setValue(item, 1500.0);
+        assertThat(item.amount).isEqualTo(1500L);
+
+        schema.getColumn("amount").setValue(item, "2500");
+        assertThat(item.amount).isEqualTo(2500L);
+    }
+
+    /**
+     * 숫자 셀 한도를 넘어 문자열로 작성된 long, BigDecimal 값을 정밀도 손실 없이 다시 읽는지 확인합니다.
+     */
+    @Test
+    void precisionRoundTrip() throws IOException {
+        Item written = new Item();
+        written.id = 1_234_567_890_123_456_789L;
+        written.price = new BigDecimal("1234567890.1234567");
+
+        Item read = new Item();
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            Cell id = workbook.createSheet().createRow(0).createCell(0);
+            Cell price = id.getRow().createCell(1);
+
+            schema.getColumn("id").writeCell(id, written);
+            schema.getColumn("price").writeCell(price, written);
+
+            schema.getColumn("id").setValue(read, id.getStringCellValue());
+            schema.getColumn("price").setValue(read, price.getStringCellValue());
+        }
+
+        assertThat(read.id).isEqualTo(written.id);
+        assertThat(read.price).isEqualTo(written.price);
+    }
+
+    /**
+     * null 값과 빈 문자열은 기본형과 래퍼 타입 필드 모두 설정하지 않는지 확인합니다.
+     */
+    @Test
+    void nullValues() {
+        Item item = new Item();
+        item.count = 3;
+        item.id = 7L;
+
+        schema.getColumn("count").setValue(item, null);
+        schema.getColumn("count").setValue(item, "");
+        schema.getColumn("id").setValue(item, null);
+        schema.getColumn("id").setValue(item, "");
+
+        assertThat(item.count).isEqualTo(3);
+        assertThat(item.id).isEqualTo(7L);
+
+        schema.getColumn("count").setValue(item, 5.0);
+        assertThat(item.count).isEqualTo(5);
+    }
+
+    /**
+     * 날짜 숫자 셀 값과 ISO-8601 문자열을 java.time 타입으로 읽는지 확인합니다.
+     */
+    @Test
+    void javaTime() {
+        LocalDateTime dateTime = LocalDateTime.of(2024, 1, 31, 10, 30);
+        Item item = new Item();
+
+        schema.getColumn("date").setValue(item, DateUtil.getExcelDate(dateTime));
+        schema.getColumn("dateTime").setValue(item, "2024-01-31T10:30");
+        assertThat(item.date).isEqualTo(LocalDate.of(2024, 1, 31));
+        assertThat(item.dateTime).isEqualTo(dateTime);
+
+        schema.getColumn("date").setValue(item, "2024-02-01");
+        schema.getColumn("dateTime").setValue(item, dateTime.plusDays(1));
+        assertThat(item.date).isEqualTo(LocalDate.of(2024, 2, 1));
+        assertThat(item.dateTime).isEqualTo(dateTime.plusDays(1));
+    }
+
+    /**
+     * 필드 타입으로 변환할 수 없는 값은 컬럼과 필드 이름을 포함한 예외가 발생하는지 확인합니다.
+     */
+    @Test
+    void invalidValue() {
+        assertThatThrownBy(() -> schema.getColumn("date").setValue(new Item(), "tomorrow"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("date")
+                .hasMessageContaining("LocalDate");
+    }
+
+    static class YesNoConverter implements ExcelConverter<Boolean> {
+
+        @Override
+        public Object toCellValue(Boolean value) {
+            return value ? "Y" : "N";
+        }
+
+        @Override
+        public Boolean fromCellValue(Object value) {
+            return "Y".equals(value);
+        }
+    }
+
+    static class WonConverter implements ExcelConverter<Long> {
+
+        @Override
+        public Object toCellValue(Long value) {
+            return String.format(Locale.ROOT, "%,d원", value);
+        }
+    }
+
+    static class Item {
+
+        @ExcelHeader(value = "yesNo", order = 1, converter = YesNoConverter.class)
+        private Boolean yesNo;
+
+        @ExcelHeader(value = "amount", order = 2, converter = WonConverter.class)
+        private Long amount;
+
+        @ExcelHeader(value = "id", order = 3)
+        private Long id;
+
+        @ExcelHeader(value = "price", order = 4)
+        private BigDecimal price;
+
+        @ExcelHeader(value = "count", order = 5)
+        private int count;
+
+        @ExcelHeader(value = "date", order = 6)
+        private LocalDate date;
+
+        @ExcelHeader(value = "dateTime", order = 7)
+        private LocalDateTime dateTime;
+    }
+}
@@ -0,0 +1,97 @@
+package io.bareun.base.file.schema;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.bareun.base.file.annotation.ExcelHeader;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ExcelSchema 클래스에 대한 테스트 클래스입니다.
+ */
+class ExcelSchemaTest {
+
+    /**
+     * Map 행을 바인딩할 때 Jackson 변환과 같은 이름({@code @JsonProperty}, {@code @JsonAlias})으로 값을 찾는지 확인합니다.
+     */
+    @Test
+    void bindMap() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("user_name", "bareun");
+        map.put("secret", "hidden");
+        map.put("age", 10);
+
+        Item item = ExcelSchema.of(Item.class).bind(map);
+
+        assertThat(item.name).isEqualTo("bareun");
+        assertThat(item.secret).isNull();
+        assertThat(item.age).isEqualTo(10);
+    }
+
+    /**
+     * {@code @JsonAlias}로 지정한 별칭으로도 값을 찾는지 확인합니다.
+     */
+    @Test
+    void bindMapAlias() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("userNm", "alias");
+
+        Item item = ExcelSchema.of(Item.class).bind(map);
+
+        assertThat(item.name).isEqualTo("alias");
+        assertThat(item.age).isNull();
+    }
+
+    /**
+     * 셀 값을 필드 타입으로 변환할 수 없으면 행 번호와 컬럼 이름을 포함한 예외가 발생하는지 확인합니다.
+     */
+    @Test
+    void bindInvalidNumber() {
+        ExcelRowBinder<Item> binder = ExcelSchema.of(Item.class).binder(Arrays.asList("이름", "나이"));
+
+        assertThatThrownBy(() -> binder.bind(3, new Object[]{"bareun", "ten"}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Row 4")
+                .hasMessageContaining("나이")
+                .hasRootCauseInstanceOf(NumberFormatException.class);
+    }
+
+    /**
+     * 행 바인더가 {@code @JsonProperty} 이름의 헤더와 {@link ExcelHeader}가 없는 필드의 헤더도 바인딩하는지 확인합니다.
+     * 어느 필드와도 일치하지 않는 헤더는 무시합니다.
+     */
+    @Test
+    void binderJacksonHeaders() {
+        ExcelRowBinder<Item> binder = ExcelSchema.of(Item.class).binder(Arrays.asList("user_name", "memo", "나이", "기타"));
+
+        Item item = binder.bind(1, new Object[]{"bareun", "note", 10, "unknown"});
+
+        assertThat(item.name).isEqualTo("bareun");
+        assertThat(item.memo).isEqualTo("note");
+        assertThat(item.age).isEqualTo(10);
+    }
+
+    static class Item {
+
+        @JsonProperty("user_name")
+        @JsonAlias("userNm")
+        @ExcelHeader(value = "이름", order = 1)
+        private String name;
+
+        @JsonIgnore
+        @ExcelHeader(value = "비밀", order = 2)
+        private String secret;
+
+        @ExcelHeader(value = "나이", order = 3)
+        private Integer age;
+
+        public String memo;
+    }
+}
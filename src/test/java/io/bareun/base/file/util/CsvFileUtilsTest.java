@@ -0,0 +1,140 @@
+package io.bareun.base.file.util;
+
+import io.bareun.base.file.annotation.ExcelHeader;
+import io.bareun.base.file.writer.CsvOptions;
+import io.bareun.base.file.writer.DefaultExcelWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CsvFileUtils 클래스에 대한 테스트 클래스입니다.
+ */
+class CsvFileUtilsTest {
+
+    /**
+     * 구분자, 큰따옴표, 줄바꿈이 있는 값을 큰따옴표로 감싸 작성하고 그대로 다시 읽는지 확인합니다.
+     * 실수는 지수 표기 없이 작성되는지 함께 확인합니다.
+     */
+    @Test
+    void roundTrip() {
+        List<Item> items = Arrays.asList(
+                new Item("a,b", new BigDecimal("1E+3"), 1.0E7),
+                new Item("say \"hi\"", new BigDecimal("0.000001"), 0.5),
+                new Item("line1\nline2\r\nline3", null, null));
+
+        byte[] bytes = write(items, CsvOptions.CSV);
+        String text = new String(bytes, StandardCharsets.UTF_8);
+
+        assertThat(text).startsWith("이름,금액,비율\r\n");
+        assertThat(text).contains("\"a,b\",1000,10000000\r\n");
+        assertThat(text).contains("\"say \"\"hi\"\"\",0.000001,0.5\r\n");
+        assertThat(text).doesNotContain("E+").doesNotContain("E7");
+
+        assertThat(read(bytes, CsvOptions.CSV)).usingRecursiveFieldByFieldElementComparator().containsExactly(
+                new Item("a,b", new BigDecimal("1000"), 1.0E7),
+                new Item("say \"hi\"", new BigDecimal("0.000001"), 0.5),
+                new Item("line1\nline2\r\nline3", null, null));
+    }
+
+    /**
+     * BOM을 포함한 TSV 파일을 작성하고, 읽을 때 BOM을 헤더에서 제거하는지 확인합니다.
+     */
+    @Test
+    void bomTsv() {
+        CsvOptions options = CsvOptions.builder().delimiter('\t').bom(true).build();
+        byte[] bytes = write(Arrays.asList(new Item("tab\tvalue", BigDecimal.ONE, 2.5)), options);
+
+        assertThat(Arrays.copyOf(bytes, 3)).containsExactly(0xEF, 0xBB, 0xBF);
+        assertThat(new String(bytes, StandardCharsets.UTF_8)).contains("\"tab\tvalue\"\t1\t2.5");
+
+        List<Item> items = read(bytes, CsvOptions.TSV);
+
+        assertThat(items).hasSize(1);
+        assertThat(items.get(0).name).isEqualTo("tab\tvalue");
+        assertThat(items.get(0).amount).isEqualByComparingTo("1");
+        assertThat(items.get(0).ratio).isEqualTo(2.5);
+    }
+
+    /**
+     * gzip으로 압축하여 작성하고 다시 읽는지 확인합니다.
+     */
+    @Test
+    void gzip() {
+        CsvOptions options = CsvOptions.builder().gzip(true).build();
+        List<Item> source = new ArrayList<>();
+
+        for (int a = 0; a < 1000; a++) {
+            source.add(new Item("name" + a, BigDecimal.valueOf(a), a / 4.0));
+        }
+
+        byte[] bytes = write(source, options);
+
+        assertThat(bytes[0]).isEqualTo((byte) 0x1f);
+        assertThat(bytes[1]).isEqualTo((byte) 0x8b);
+
+        List<Item> items = read(bytes, options);
+
+        assertThat(items).hasSize(1000);
+        assertThat(items.get(999).name).isEqualTo("name999");
+        assertThat(items.get(999).amount).isEqualByComparingTo("999");
+        assertThat(items.get(999).ratio).isEqualTo(249.75);
+    }
+
+    /**
+     * 변환에 실패하면 큰따옴표 안의 줄바꿈을 제외한 행 순번이 예외 메시지에 포함되는지 확인합니다.
+     */
+    @Test
+    void invalidRow() {
+        byte[] bytes = "이름,금액,비율\r\n\"multi\nline\",1,1\r\nname,abc,1\r\n".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> read(bytes, CsvOptions.CSV))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Row 3")
+                .hasMessageContaining("금액");
+    }
+
+    private static byte[] write(List<Item> items, CsvOptions options) {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        CsvFileUtils.write(DefaultExcelWriter.of(items, Item.class), stream, options);
+
+        return stream.toByteArray();
+    }
+
+    private static List<Item> read(byte[] bytes, CsvOptions options) {
+        List<Item> items = new ArrayList<>();
+        CsvFileUtils.read(new ByteArrayInputStream(bytes), Item.class, items::add, options);
+
+        return items;
+    }
+
+    static class Item {
+
+        @ExcelHeader(value = "이름", order = 1)
+        private String name;
+
+        @ExcelHeader(value = "금액", order = 2)
+        private BigDecimal amount;
+
+        @ExcelHeader(value = "비율", order = 3)
+        private Double ratio;
+
+        Item() {
+        }
+
+        Item(String name, BigDecimal amount, Double ratio) {
+            this.name = name;
+            this.amount = amount;
+            this.ratio = ratio;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package io.bareun.base.file.util;
+
+import io.bareun.base.file.annotation.ExcelHeader;
+import io.bareun.base.file.writer.ExcelExportOptions;
+import io.bareun.base.file.writer.ExcelExportResult;
+import io.bareun.base.file.writer.ExcelWriter;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ExcelExportWorkbook 클래스에 대한 테스트 클래스입니다.
+ */
+class ExcelExportWorkbookTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * 윈도우 크기를 넘는 행이 임시 파일로 내려쓰이고, 작성이 끝나면 임시 파일이 삭제되는지 확인합니다.
+     */
+    @Test
+    void disposeTempFiles() {
+        ExcelExportResult result = ExcelFileUtils.write(writer(items(100)), new ByteArrayOutputStream(), options(false));
+
+        assertThat(result.getRows()).isEqualTo(100);
+        assertThat(result.getTempBytes()).isPositive();
+        assertThat(tempDir.toFile().list()).isEmpty();
+    }
+
+    /**
+     * 임시 파일을 압축하는 경우에도 작성이 끝나면 임시 파일이 삭제되는지 확인합니다.
+     */
+    @Test
+    void disposeCompressedTempFiles() {
+        ExcelExportResult result = ExcelFileUtils.write(writer(items(100)), new ByteArrayOutputStream(), options(true));
+
+        assertThat(result.getTempBytes()).isPositive();
+        assertThat(tempDir.toFile().list()).isEmpty();
+    }
+
+    /**
+     * 작성 도중 실패해도 임시 파일이 삭제되는지 확인합니다.
+     */
+    @Test
+    void disposeTempFilesOnFailure() {
+        Stream<Item> stream = IntStream.rangeClosed(1, 100).mapToObj(a -> {
+            if (a == 50) {
+                throw new IllegalStateException("failed");
+            }
+
+            return new Item(a);
+        });
+
+        ExcelWriter<Item> writer = new ExcelWriter<Item>() {
+            @Override
+            public List<?> getList() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Class<Item> getType() {
+                return Item.class;
+            }
+
+            @Override
+            public Stream<?> getStream() {
+                return stream;
+            }
+        };
+
+        assertThatThrownBy(() -> ExcelFileUtils.write(writer, new ByteArrayOutputStream(), options(false)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("failed");
+        assertThat(tempDir.toFile().list()).isEmpty();
+    }
+
+    /**
+     * 여러 ExcelWriter와 나뉜 시트가 하나의 헤더 스타일과 글꼴을 공유하는지 확인합니다.
+     */
+    @Test
+    void shareHeaderStyle() throws IOException {
+        ExcelExportOptions options = ExcelExportOptions.builder()
+                .maxRowsPerSheet(11)
+                .build();
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+        ExcelExportResult result = ExcelFileUtils.write(Arrays.asList(writer(items(30)), writer(items(5))), stream, options);
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(stream.toByteArray()))) {
+            short headerStyle = workbook.getSheetAt(0).getRow(0).getCell(0).getCellStyle().getIndex();
+
+            assertThat(result.getSheets()).isEqualTo(4);
+            for (int a = 1; a < workbook.getNumberOfSheets(); a++) {
+                assertThat(workbook.getSheetAt(a).getRow(0).getCell(0).getCellStyle().getIndex()).isEqualTo(headerStyle);
+            }
+            assertThat(workbook.getNumCellStyles()).isEqualTo(2);
+            assertThat(workbook.getNumberOfFonts()).isEqualTo(2);
+        }
+    }
+
+    private ExcelExportOptions options(boolean compress) {
+        return ExcelExportOptions.builder()
+                .windowSize(10)
+                .compressTempFiles(compress)
+                .tempDirectory(tempDir.toString())
+                .build();
+    }
+
+    private static List<Item> items(int size) {
+        return IntStream.rangeClosed(1, size).mapToObj(Item::new).collect(Collectors.toList());
+    }
+
+    private static ExcelWriter<Item> writer(List<Item> items) {
+        return new ExcelWriter<Item>() {
+            @Override
+            public List<?> getList() {
+                return items;
+            }
+
+            @Override
+            public Class<Item> getType() {
+                return Item.class;
+            }
+        };
+    }
+
+    static class Item {
+
+        @ExcelHeader(value = "번호", order = 1)
+        private final long number;
+
+        @ExcelHeader(value = "이름", order = 2)
+        private final String name;
+
+        Item(long number) {
+            this.number = number;
+            this.name = "name" + number;
+        }
+    }
+}